@@ -0,0 +1,30 @@
+package com.innowise.apigateway.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for batching concurrent single-id lookups into batch calls
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.batching")
+@Data
+public class BatchingProperties {
+
+  /**
+   * Collect single-id lookups into /batch calls
+   */
+  private boolean enabled = true;
+
+  /**
+   * How long the first lookup of a batch waits for others to join
+   */
+  private Duration window = Duration.ofMillis(2);
+
+  /**
+   * Number of distinct ids that flushes a batch before the window ends
+   */
+  private int maxBatchSize = 64;
+}
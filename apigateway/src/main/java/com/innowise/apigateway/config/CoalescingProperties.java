@@ -0,0 +1,19 @@
+package com.innowise.apigateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for coalescing identical in-flight GET requests
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.coalescing")
+@Data
+public class CoalescingProperties {
+
+  /**
+   * Let concurrent identical GET requests share one downstream call
+   */
+  private boolean enabled = true;
+}
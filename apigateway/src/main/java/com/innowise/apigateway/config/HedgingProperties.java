@@ -0,0 +1,56 @@
+package com.innowise.apigateway.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for hedged requests of latency-sensitive idempotent reads
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.hedging")
+@Data
+public class HedgingProperties {
+
+  /**
+   * Send hedged attempts for the operations that have a policy
+   */
+  private boolean enabled = true;
+
+  /**
+   * Hedging policies by operation name, operations without a policy are never hedged
+   */
+  private Map<String, Policy> operations = new HashMap<>();
+
+  @Data
+  public static class Policy {
+
+    /**
+     * Percentile of recent latencies after which a second attempt is sent
+     */
+    private double percentile = 0.95;
+
+    /**
+     * Number of recent latencies the percentile is computed from
+     */
+    private int window = 1000;
+
+    /**
+     * Delay of the second attempt until the window has been filled once
+     */
+    private Duration initialDelay = Duration.ofMillis(50);
+
+    /**
+     * Lower bound of the delay, so fast responses are not hedged right away
+     */
+    private Duration minDelay = Duration.ofMillis(5);
+
+    /**
+     * Maximum share of requests, in percent, that may get a second attempt
+     */
+    private double budgetPercent = 5;
+  }
+}
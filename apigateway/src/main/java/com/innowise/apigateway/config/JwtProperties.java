@@ -0,0 +1,48 @@
+package com.innowise.apigateway.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for JWT validation in the gateway
+ */
+@Configuration
+@ConfigurationProperties(prefix = "jwt")
+@Data
+public class JwtProperties {
+
+  private String secret;
+  private String issuer;
+  private Validation validation = new Validation();
+
+  @Data
+  public static class Validation {
+
+    /**
+     * Verify tokens in the gateway with the shared secret instead of calling auth-service
+     */
+    private boolean local = true;
+
+    /**
+     * Ask auth-service when local verification rejects a token
+     */
+    private boolean remoteFallback = false;
+
+    /**
+     * Maximum number of verified tokens kept in memory
+     */
+    private long cacheMaxSize = 10_000;
+
+    /**
+     * JWK set of authentication-service used to verify RS256/EdDSA tokens, disabled when empty
+     */
+    private String jwksUri;
+
+    /**
+     * How often the JWK set is re-fetched
+     */
+    private Duration jwksRefreshInterval = Duration.ofMinutes(5);
+  }
+}
@@ -0,0 +1,67 @@
+package com.innowise.apigateway.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for spreading requests over the instances of a downstream service
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.load-balancer")
+@Data
+public class LoadBalancerProperties {
+
+  /**
+   * How an instance is picked among the available ones
+   */
+  private Strategy strategy = Strategy.POWER_OF_TWO_CHOICES;
+
+  /**
+   * Consecutive failed or slow responses after which an instance is ejected
+   */
+  private int consecutiveFailures = 5;
+
+  /**
+   * Responses slower than this count as failures for ejection
+   */
+  private Duration slowResponseThreshold = Duration.ofSeconds(2);
+
+  /**
+   * How long an ejected instance receives no requests
+   */
+  private Duration ejectionTime = Duration.ofSeconds(30);
+
+  /**
+   * Maximum share of the instances of a service, in percent, that may be ejected at once
+   */
+  private int maxEjectionPercent = 50;
+
+  /**
+   * How often every instance is probed, zero disables probing
+   */
+  private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+  /**
+   * Path probed on every instance
+   */
+  private String healthCheckPath = "/actuator/health";
+
+  /**
+   * How long a probe may take before the instance counts as unhealthy
+   */
+  private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+  public enum Strategy {
+    /**
+     * Pick two random instances and take the one with fewer outstanding requests
+     */
+    POWER_OF_TWO_CHOICES,
+
+    /**
+     * Take the instance with the fewest outstanding requests
+     */
+    LEAST_OUTSTANDING_REQUESTS
+  }
+}
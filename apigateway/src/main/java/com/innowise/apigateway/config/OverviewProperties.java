@@ -0,0 +1,34 @@
+package com.innowise.apigateway.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the aggregated user overview
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.overview")
+@Data
+public class OverviewProperties {
+
+  /**
+   * How long a section may take before it is reported as failed
+   */
+  private Duration timeout = Duration.ofSeconds(2);
+
+  /**
+   * Timeouts per section (user, cards, orders, payments) that override the default one
+   */
+  private Map<String, Duration> timeouts = new HashMap<>();
+
+  /**
+   * Get the timeout of a section, the default one is used when none is configured
+   */
+  public Duration getTimeout(String section) {
+    return timeouts.getOrDefault(section, timeout);
+  }
+}
@@ -0,0 +1,20 @@
+package com.innowise.apigateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for proxying read routes without deserializing the response body
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.passthrough")
+@Data
+public class PassthroughProperties {
+
+  /**
+   * Stream the downstream body of list routes without gateway-side behaviour (the card batch
+   * route) straight to the client
+   */
+  private boolean enabled = true;
+}
@@ -0,0 +1,75 @@
+package com.innowise.apigateway.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for the Redis-backed rate limiter of expensive routes
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Validated
+@Data
+public class RateLimitProperties {
+
+  /**
+   * Limit the request rate of the configured routes
+   */
+  private boolean enabled = true;
+
+  /**
+   * How long tokens taken from Redis may be used locally before they are dropped
+   */
+  private Duration leaseTtl = Duration.ofSeconds(1);
+
+  /**
+   * Maximum number of clients with a local quota
+   */
+  private int localCacheMaxSize = 10000;
+
+  /**
+   * Limited routes by rule name
+   */
+  private Map<String, @Valid Rule> rules = new LinkedHashMap<>();
+
+  @Data
+  public static class Rule {
+
+    /**
+     * HTTP method of the limited route
+     */
+    private String method = "GET";
+
+    /**
+     * Path of the limited route
+     */
+    @NotBlank
+    private String path;
+
+    /**
+     * Maximum burst of requests per client
+     */
+    @Positive
+    private int capacity = 10;
+
+    /**
+     * Tokens added to the bucket of a client per second, the limiter script divides by it
+     */
+    @Positive
+    private double refillPerSecond = 1;
+
+    /**
+     * Tokens taken from Redis at once and used locally, 1 sends every check to Redis
+     */
+    @Positive
+    private int localBatch = 1;
+  }
+}
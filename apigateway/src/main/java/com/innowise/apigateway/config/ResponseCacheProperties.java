@@ -0,0 +1,35 @@
+package com.innowise.apigateway.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for caching responses of single-resource GET routes
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.response-cache")
+@Data
+public class ResponseCacheProperties {
+
+  /**
+   * Cache responses of user, card and order lookups by id
+   */
+  private boolean enabled = true;
+
+  /**
+   * How long a response is kept in Redis, bounds staleness after changes made outside the gateway
+   */
+  private Duration ttl = Duration.ofSeconds(30);
+
+  /**
+   * How long a response is kept in the in-process cache
+   */
+  private Duration localTtl = Duration.ofSeconds(5);
+
+  /**
+   * Maximum number of resources held in the in-process cache
+   */
+  private int localMaxSize = 10000;
+}
@@ -3,9 +3,11 @@ package com.innowise.apigateway.config;
 import com.innowise.apigateway.handler.AuthHandler;
 import com.innowise.apigateway.handler.CardHandler;
 import com.innowise.apigateway.handler.OrderHandler;
+import com.innowise.apigateway.handler.PassthroughHandler;
 import com.innowise.apigateway.handler.PaymentHandler;
 import com.innowise.apigateway.handler.UserHandler;
 import com.innowise.apigateway.filter.JwtRouterFilter;
+import com.innowise.apigateway.filter.RateLimitRouterFilter;
 import java.time.Instant;
 import java.util.Map;
 import org.springframework.context.annotation.Bean;
@@ -27,22 +29,35 @@ public class RouterConfig {
   private final OrderHandler orderHandler;
   private final CardHandler cardHandler;
   private final PaymentHandler paymentHandler;
+  private final PassthroughHandler passthroughHandler;
+  private final PassthroughProperties passthroughProperties;
   private final JwtRouterFilter jwtFilter;
+  private final RateLimitRouterFilter rateLimitFilter;
 
   public RouterConfig(AuthHandler authHandler, UserHandler userHandler, OrderHandler orderHandler,
-      CardHandler cardHandler, PaymentHandler paymentHandler, JwtRouterFilter jwtFilter) {
+      CardHandler cardHandler, PaymentHandler paymentHandler,
+      PassthroughHandler passthroughHandler, PassthroughProperties passthroughProperties,
+      JwtRouterFilter jwtFilter, RateLimitRouterFilter rateLimitFilter) {
     this.authHandler = authHandler;
     this.userHandler = userHandler;
     this.orderHandler = orderHandler;
     this.cardHandler = cardHandler;
     this.paymentHandler = paymentHandler;
+    this.passthroughHandler = passthroughHandler;
+    this.passthroughProperties = passthroughProperties;
     this.jwtFilter = jwtFilter;
+    this.rateLimitFilter = rateLimitFilter;
   }
 
   @Bean
   public RouterFunction<ServerResponse> route() {
+    // only routes without gateway-side behaviour (coalescing, streaming, keyset pages) are
+    // proxied as raw bodies
+    boolean passthrough = passthroughProperties.isEnabled();
+
     return RouterFunctions.route()
         .filter(jwtFilter)
+        .filter(rateLimitFilter)
         .path("/api/v1", builder -> builder
             .path("/auth", authBuilder -> authBuilder
                 .POST("/register", authHandler::register)
@@ -53,12 +68,14 @@ public class RouterConfig {
             .path("/users", userBuilder -> userBuilder
                 .GET("/batch", userHandler::getUsersByIds)
                 .GET("/email", userHandler::getUserByEmail)
+                .GET("/{id}/overview", userHandler::getUserOverview)
                 .GET("/{id}", userHandler::getUserById)
                 .PATCH("/{id}", userHandler::updateUser)
                 .DELETE("/{id}", userHandler::deleteUser)
             )
             .path("/orders", orderBuilder -> orderBuilder
                 .POST("/", orderHandler::createOrder)
+                .POST("/bulk", orderHandler::createOrders)
                 .GET("/batch", orderHandler::getOrdersByIds)
                 .GET("/status", orderHandler::getOrdersByStatuses)
                 .GET("/{id}", orderHandler::getOrderById)
@@ -66,7 +83,8 @@ public class RouterConfig {
                 .DELETE("/{id}", orderHandler::deleteOrder)
             )
             .path("/cards", cardBuilder -> cardBuilder
-                .GET("/batch", cardHandler::getCardsByIds)
+                .GET("/batch", passthrough
+                    ? passthroughHandler::forwardToCardService : cardHandler::getCardsByIds)
                 .GET("/{id}", cardHandler::getCardByUserId)
                 .GET("/{id}", cardHandler::getCardById)
                 .PATCH("/{id}", cardHandler::updateCard)
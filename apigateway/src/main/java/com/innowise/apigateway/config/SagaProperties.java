@@ -0,0 +1,35 @@
+package com.innowise.apigateway.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for sagas coordinated by the gateway
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.saga")
+@Data
+public class SagaProperties {
+
+  /**
+   * How often the saga log is scanned for sagas left unfinished by a crashed gateway
+   */
+  private Duration recoveryInterval = Duration.ofMinutes(1);
+
+  /**
+   * Minimum time since the last update before an unfinished saga is picked up for recovery
+   */
+  private Duration staleAfter = Duration.ofSeconds(30);
+
+  /**
+   * How long a saga log entry is kept in Redis
+   */
+  private Duration logTtl = Duration.ofDays(7);
+
+  /**
+   * Retries of a failed step when the saga has to be completed forward
+   */
+  private int stepRetries = 3;
+}
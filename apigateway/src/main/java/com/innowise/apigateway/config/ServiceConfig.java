@@ -1,5 +1,9 @@
 package com.innowise.apigateway.config;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -16,4 +20,94 @@ public class ServiceConfig {
   private String cardServiceUrl;
   private String orderServiceUrl;
   private String paymentServiceUrl;
+
+  /**
+   * Connection settings per downstream service (user, auth, card, order, payment)
+   */
+  private Map<String, Connection> connections = new HashMap<>();
+
+  /**
+   * Get the connection settings of a service, defaults are used when none are configured
+   */
+  public Connection getConnection(String service) {
+    return connections.getOrDefault(service, new Connection());
+  }
+
+  /**
+   * Base URLs of the instances of a service (user, auth, card, order, payment). Requests to the
+   * service URL are spread over them; without instances the service URL is used as it is.
+   */
+  private Map<String, List<String>> instances = new HashMap<>();
+
+  /**
+   * Get the URL requests to a service are built with
+   */
+  public String getServiceUrl(String service) {
+    return switch (service) {
+      case WebClientConfig.USER_SERVICE -> userServiceUrl;
+      case WebClientConfig.AUTH_SERVICE -> authServiceUrl;
+      case WebClientConfig.CARD_SERVICE -> cardServiceUrl;
+      case WebClientConfig.ORDER_SERVICE -> orderServiceUrl;
+      case WebClientConfig.PAYMENT_SERVICE -> paymentServiceUrl;
+      default -> throw new IllegalArgumentException("Unknown service: " + service);
+    };
+  }
+
+  /**
+   * Get the instances of a service, the service URL is the only one when none are configured
+   */
+  public List<String> getInstances(String service) {
+    List<String> configured = instances.get(service);
+    return configured == null || configured.isEmpty()
+        ? List.of(getServiceUrl(service)) : configured;
+  }
+
+  @Data
+  public static class Connection {
+
+    /**
+     * Maximum number of open connections to the service
+     */
+    private int maxConnections = 100;
+
+    /**
+     * Maximum number of requests waiting for a free connection
+     */
+    private int pendingAcquireMaxCount = 200;
+
+    /**
+     * How long a request waits for a free connection
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Timeout for establishing a connection
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Timeout for receiving a response
+     */
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Idle connections are closed after this time
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * Connections are closed after this time, even when busy
+     */
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    /**
+     * How often idle and expired connections are evicted in the background
+     */
+    private Duration evictionInterval = Duration.ofSeconds(30);
+
+    /**
+     * Use HTTP/2 over cleartext (h2c), the service must support it
+     */
+    private boolean http2 = false;
+  }
 }
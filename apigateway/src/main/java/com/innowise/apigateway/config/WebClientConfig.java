@@ -1,17 +1,99 @@
 package com.innowise.apigateway.config;
 
+import com.innowise.apigateway.service.loadbalancer.ClientLoadBalancer;
+import com.innowise.apigateway.service.resilience.DownstreamResilience;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
- * Configuration class for setting up WebClient instances
+ * Configuration class for setting up WebClient instances. Every downstream service gets its own
+ * connection pool, circuit breaker and bulkhead, so a slow service cannot take connections from
+ * the others, and spreads its requests over the instances of the service.
  */
 @Configuration
 public class WebClientConfig {
 
+  public static final String USER_SERVICE = "user";
+  public static final String AUTH_SERVICE = "auth";
+  public static final String CARD_SERVICE = "card";
+  public static final String ORDER_SERVICE = "order";
+  public static final String PAYMENT_SERVICE = "payment";
+
+  private final ServiceConfig serviceConfig;
+  private final DownstreamResilience downstreamResilience;
+  private final ClientLoadBalancer clientLoadBalancer;
+
+  public WebClientConfig(ServiceConfig serviceConfig, DownstreamResilience downstreamResilience,
+      ClientLoadBalancer clientLoadBalancer) {
+    this.serviceConfig = serviceConfig;
+    this.downstreamResilience = downstreamResilience;
+    this.clientLoadBalancer = clientLoadBalancer;
+  }
+
   @Bean
-  public WebClient webClient() {
-    return WebClient.builder().build();
+  @Qualifier(USER_SERVICE)
+  public WebClient userServiceWebClient() {
+    return createWebClient(USER_SERVICE);
+  }
+
+  @Bean
+  @Qualifier(AUTH_SERVICE)
+  public WebClient authServiceWebClient() {
+    return createWebClient(AUTH_SERVICE);
+  }
+
+  @Bean
+  @Qualifier(CARD_SERVICE)
+  public WebClient cardServiceWebClient() {
+    return createWebClient(CARD_SERVICE);
+  }
+
+  @Bean
+  @Qualifier(ORDER_SERVICE)
+  public WebClient orderServiceWebClient() {
+    return createWebClient(ORDER_SERVICE);
+  }
+
+  @Bean
+  @Qualifier(PAYMENT_SERVICE)
+  public WebClient paymentServiceWebClient() {
+    return createWebClient(PAYMENT_SERVICE);
+  }
+
+  private WebClient createWebClient(String service) {
+    ServiceConfig.Connection connection = serviceConfig.getConnection(service);
+
+    ConnectionProvider provider = ConnectionProvider.builder(service + "-service")
+        .maxConnections(connection.getMaxConnections())
+        .pendingAcquireMaxCount(connection.getPendingAcquireMaxCount())
+        .pendingAcquireTimeout(connection.getPendingAcquireTimeout())
+        .maxIdleTime(connection.getMaxIdleTime())
+        .maxLifeTime(connection.getMaxLifeTime())
+        .evictInBackground(connection.getEvictionInterval())
+        .metrics(true)
+        .build();
+
+    HttpClient httpClient = HttpClient.create(provider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+            (int) connection.getConnectTimeout().toMillis())
+        .responseTimeout(connection.getResponseTimeout())
+        .keepAlive(true)
+        .protocol(connection.isHttp2()
+            ? new HttpProtocol[]{HttpProtocol.H2C, HttpProtocol.HTTP11}
+            : new HttpProtocol[]{HttpProtocol.HTTP11});
+
+    ReactorClientHttpConnector connector = new ReactorClientHttpConnector(httpClient);
+    return WebClient.builder()
+        .clientConnector(connector)
+        .filter(downstreamResilience.filter(service))
+        .filter(clientLoadBalancer.filter(service, connector))
+        .build();
   }
 }
@@ -1,6 +1,7 @@
 package com.innowise.apigateway.dto.card;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -10,6 +11,7 @@ import java.time.LocalDate;
  * DTO representing a payment card entity in the system
  */
 public record CardDTO(
+    @JsonInclude(JsonInclude.Include.NON_NULL) Long id,
     @NotBlank String number,
     @NotBlank String holder,
     @JsonFormat(pattern = "dd/MM/yyyy")
@@ -18,4 +20,7 @@ public record CardDTO(
     LocalDate expirationDate
 ) {
 
+  public CardDTO(String number, String holder, LocalDate expirationDate) {
+    this(null, number, holder, expirationDate);
+  }
 }
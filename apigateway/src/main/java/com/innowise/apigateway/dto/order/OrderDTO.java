@@ -1,5 +1,6 @@
 package com.innowise.apigateway.dto.order;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.innowise.apigateway.enums.OrderStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -10,10 +11,15 @@ import java.util.List;
  * DTO representing an Order for API responses
  */
 public record OrderDTO(
+    @JsonInclude(JsonInclude.Include.NON_NULL) Long id,
     @NotBlank String userId,
     @NotNull OrderStatus status,
     @NotNull LocalDateTime creationDate,
     List<OrderItemDTO> orderItems
 ) {
 
+  public OrderDTO(String userId, OrderStatus status, LocalDateTime creationDate,
+      List<OrderItemDTO> orderItems) {
+    this(null, userId, status, creationDate, orderItems);
+  }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.innowise.apigateway.dto.user;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -9,10 +10,14 @@ import java.time.LocalDate;
  * DTO representing a user entity in the system
  */
 public record UserDTO(
+    @JsonInclude(JsonInclude.Include.NON_NULL) String id,
     @NotBlank String name,
     @NotBlank String surname,
     @NotNull LocalDate birthDate,
     @Email String email
 ) {
 
+  public UserDTO(String name, String surname, LocalDate birthDate, String email) {
+    this(null, name, surname, birthDate, email);
+  }
 }
\ No newline at end of file
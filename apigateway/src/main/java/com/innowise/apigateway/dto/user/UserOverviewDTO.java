@@ -0,0 +1,23 @@
+package com.innowise.apigateway.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.innowise.apigateway.dto.card.CardDTO;
+import com.innowise.apigateway.dto.order.OrderDTO;
+import com.innowise.apigateway.dto.payment.PaymentDTO;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO representing the overview of a user: profile, cards, orders and payments. Sections that were
+ * not requested or failed are null, failed sections are listed in {@code errors} with the reason.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserOverviewDTO(
+    UserDTO user,
+    List<CardDTO> cards,
+    List<OrderDTO> orders,
+    List<PaymentDTO> payments,
+    @JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, String> errors
+) {
+
+}
@@ -0,0 +1,43 @@
+package com.innowise.apigateway.enums;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Enumeration representing the sections of a user overview
+ */
+public enum OverviewSection {
+  USER,
+  CARDS,
+  ORDERS,
+  PAYMENTS;
+
+  /**
+   * Name of the section in requests, responses and configuration
+   */
+  public String key() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Parse the comma-separated value of the include parameter, all sections are included when it
+   * names none
+   *
+   * @throws IllegalArgumentException if a section is unknown
+   */
+  public static Set<OverviewSection> parse(String include) {
+    if (include == null) {
+      return EnumSet.allOf(OverviewSection.class);
+    }
+    Set<OverviewSection> sections = Arrays.stream(include.split(","))
+        .map(String::trim)
+        .filter(key -> !key.isEmpty())
+        .map(key -> valueOf(key.toUpperCase(Locale.ROOT)))
+        .collect(Collectors.toCollection(() -> EnumSet.noneOf(OverviewSection.class)));
+
+    return sections.isEmpty() ? EnumSet.allOf(OverviewSection.class) : sections;
+  }
+}
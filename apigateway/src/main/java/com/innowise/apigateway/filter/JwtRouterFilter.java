@@ -16,6 +16,11 @@ import reactor.core.publisher.Mono;
 @Component
 public class JwtRouterFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
 
+  /**
+   * Request attribute holding the username of a validated token
+   */
+  public static final String PRINCIPAL_ATTRIBUTE = "gateway.principal";
+
   private final AuthOperationManager authOperationManager;
 
   public JwtRouterFilter(AuthOperationManager authOperationManager) {
@@ -41,6 +46,9 @@ public class JwtRouterFilter implements HandlerFilterFunction<ServerResponse, Se
     return authOperationManager.validateToken(token)
         .flatMap(valid -> {
           if (valid.valid()) {
+            if (valid.username() != null) {
+              request.attributes().put(PRINCIPAL_ATTRIBUTE, valid.username());
+            }
             return next.handle(request);
           } else {
             return ServerResponse.status(HttpStatus.UNAUTHORIZED)
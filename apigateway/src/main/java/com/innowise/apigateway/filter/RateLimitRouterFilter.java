@@ -0,0 +1,78 @@
+package com.innowise.apigateway.filter;
+
+import com.innowise.apigateway.config.RateLimitProperties;
+import com.innowise.apigateway.service.ratelimit.RedisRateLimiter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Router filter component limiting the request rate of expensive routes. Clients are identified by
+ * the principal of their validated token, or by their address on routes without authentication.
+ */
+@Slf4j
+@Component
+public class RateLimitRouterFilter implements
+    HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+  private final RateLimitProperties rateLimitProperties;
+  private final RedisRateLimiter redisRateLimiter;
+
+  public RateLimitRouterFilter(RateLimitProperties rateLimitProperties,
+      RedisRateLimiter redisRateLimiter) {
+    this.rateLimitProperties = rateLimitProperties;
+    this.redisRateLimiter = redisRateLimiter;
+  }
+
+  @Override
+  public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+    if (!rateLimitProperties.isEnabled()) {
+      return next.handle(request);
+    }
+
+    Optional<Map.Entry<String, RateLimitProperties.Rule>> match = rateLimitProperties.getRules()
+        .entrySet().stream()
+        .filter(entry -> entry.getValue().getMethod().equalsIgnoreCase(request.method().name())
+            && entry.getValue().getPath().equals(request.path()))
+        .findFirst();
+    if (match.isEmpty()) {
+      return next.handle(request);
+    }
+
+    String ruleName = match.get().getKey();
+    String client = client(request);
+
+    return redisRateLimiter.tryAcquire(ruleName, match.get().getValue(), client)
+        .flatMap(decision -> {
+          if (decision.allowed()) {
+            return next.handle(request);
+          }
+          log.warn("API Gateway: Rate limit {} exceeded by {}", ruleName, client);
+          long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+          return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+              .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+              .bodyValue("Too many requests");
+        });
+  }
+
+  private String client(ServerRequest request) {
+    Optional<Object> principal = request.attribute(JwtRouterFilter.PRINCIPAL_ATTRIBUTE);
+    if (principal.isPresent()) {
+      return "user:" + principal.get();
+    }
+    return "ip:" + request.remoteAddress()
+        .map(InetSocketAddress::getAddress)
+        .map(InetAddress::getHostAddress)
+        .orElse("unknown");
+  }
+}
@@ -29,6 +29,7 @@ public class AuthHandler {
     return request.bodyToMono(RegistrationRequest.class)
         .flatMap(authOperationManager::registerUser)
         .flatMap(user -> ServerResponse.status(HttpStatus.CREATED).bodyValue(user))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
 
           log.error("Registration failed: {}", error.getMessage());
@@ -42,6 +43,7 @@ public class AuthHandler {
     return request.bodyToMono(LoginRequest.class)
         .flatMap(authOperationManager::loginUser)
         .flatMap(body -> ServerResponse.status(HttpStatus.OK).bodyValue(body))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Login failed for user ", error.getMessage());
           return ServerResponse.badRequest().build();
@@ -52,6 +54,7 @@ public class AuthHandler {
     return request.bodyToMono(RefreshTokenRequest.class)
         .flatMap(authOperationManager::refreshToken)
         .flatMap(body -> ServerResponse.status(HttpStatus.OK).bodyValue(body))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Refresh token failed ", error.getMessage());
           return ServerResponse.badRequest().build();
@@ -63,6 +66,7 @@ public class AuthHandler {
             .orElseThrow(() -> new IllegalArgumentException("Token parameter is required")))
         .flatMap(authOperationManager::validateToken)
         .flatMap(response -> ServerResponse.ok().bodyValue(response))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Validation of token failed ", error);
           return ServerResponse.badRequest().build();
@@ -3,6 +3,7 @@ package com.innowise.apigateway.handler;
 import com.innowise.apigateway.dto.card.CreateCardRequest;
 import com.innowise.apigateway.dto.card.UpdateCardRequest;
 import com.innowise.apigateway.manager.CardOperationManager;
+import com.innowise.apigateway.service.cache.ResponseCache;
 import java.util.Arrays;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
@@ -19,16 +20,19 @@ import reactor.core.publisher.Mono;
 public class CardHandler {
 
   private final CardOperationManager cardOperationManager;
+  private final ResponseCache responseCache;
 
-  public CardHandler(CardOperationManager cardOperationManager) {
+  public CardHandler(CardOperationManager cardOperationManager, ResponseCache responseCache) {
     this.cardOperationManager = cardOperationManager;
+    this.responseCache = responseCache;
   }
 
   public Mono<ServerResponse> getCardById(ServerRequest request) {
     Long id = Long.valueOf(request.pathVariable("id"));
 
-    return cardOperationManager.getCardById(id)
-        .flatMap(card -> ServerResponse.ok().bodyValue(card))
+    return responseCache.getOrLoad(request, ResponseCache.CARDS, String.valueOf(id),
+            () -> cardOperationManager.getCardById(id))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Get card with id {} failed", id, error.getMessage());
           return ServerResponse.badRequest().build();
@@ -38,8 +42,14 @@ public class CardHandler {
   public Mono<ServerResponse> getCardByUserId(ServerRequest request) {
     String id = request.pathVariable("id");
 
+    if (request.queryParam("limit").isPresent()) {
+      return PageResponses.ok(request, (after, limit) ->
+          cardOperationManager.getCardsPageByUserId(id, after, limit));
+    }
+
     return cardOperationManager.getCardByUserId(id)
         .flatMap(cards -> ServerResponse.ok().bodyValue(cards))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Get card with user id {} failed", id, error.getMessage());
           return ServerResponse.badRequest().build();
@@ -67,6 +77,7 @@ public class CardHandler {
             }
             return ServerResponse.ok().bodyValue(cards);
           })
+          .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
           .onErrorResume(error -> {
             log.error("Cards not found with ids: {}", ids, error);
             return ServerResponse.badRequest().build();
@@ -83,7 +94,10 @@ public class CardHandler {
 
     return request.bodyToMono(UpdateCardRequest.class)
         .flatMap(updateRequest -> cardOperationManager.updateCard(id, updateRequest))
+        .flatMap(card -> responseCache.invalidate(ResponseCache.CARDS, String.valueOf(id))
+            .thenReturn(card))
         .flatMap(card -> ServerResponse.ok().bodyValue(card))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Card was not updated with id {}", id, error);
           return ServerResponse.badRequest().build();
@@ -97,6 +111,7 @@ public class CardHandler {
     return request.bodyToMono(CreateCardRequest.class)
         .flatMap(createRequest -> cardOperationManager.createCard(userId, createRequest))
         .flatMap(card -> ServerResponse.ok().bodyValue(card))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Creation card failed for user with id {}: {}", userId, error.getMessage());
           return ServerResponse.badRequest().build();
@@ -107,7 +122,9 @@ public class CardHandler {
     Long id = Long.valueOf(request.pathVariable("id"));
 
     return cardOperationManager.deleteCard(id)
+        .then(responseCache.invalidate(ResponseCache.CARDS, String.valueOf(id)))
         .then(ServerResponse.noContent().build())
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Delete failed for card with id {}: {}", id, error.getMessage());
           return ServerResponse.badRequest().build();
@@ -0,0 +1,44 @@
+package com.innowise.apigateway.handler;
+
+import com.innowise.apigateway.service.resilience.DownstreamUnavailableException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Answers with 503 Service Unavailable when a request failed because a downstream call was
+ * rejected by an open circuit or a full bulkhead. The rejection is looked up in the cause chain,
+ * so it is recognized whatever wrapped it and wherever the call was subscribed.
+ */
+final class DownstreamErrors {
+
+  private DownstreamErrors() {
+  }
+
+  static boolean isUnavailable(Throwable error) {
+    return find(error) != null;
+  }
+
+  static Function<Throwable, Mono<ServerResponse>> respond(ServerRequest request) {
+    return error -> ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .bodyValue(Map.of(
+            "error", "Service unavailable",
+            "service", find(error).getService(),
+            "path", request.path(),
+            "timestamp", Instant.now()
+        ));
+  }
+
+  private static DownstreamUnavailableException find(Throwable error) {
+    for (Throwable current = error; current != null; current = current.getCause()) {
+      if (current instanceof DownstreamUnavailableException unavailable) {
+        return unavailable;
+      }
+    }
+    return null;
+  }
+}
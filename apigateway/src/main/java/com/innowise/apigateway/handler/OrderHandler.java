@@ -1,8 +1,11 @@
 package com.innowise.apigateway.handler;
 
 import com.innowise.apigateway.dto.order.CreateOrderRequest;
+import com.innowise.apigateway.dto.order.OrderDTO;
 import com.innowise.apigateway.enums.OrderStatus;
 import com.innowise.apigateway.manager.OrderOperationManager;
+import com.innowise.apigateway.service.cache.ResponseCache;
+import com.innowise.apigateway.service.coalescing.RequestCoalescer;
 import java.util.Arrays;
 import java.util.Collections;
 import lombok.extern.slf4j.Slf4j;
@@ -20,26 +23,46 @@ import reactor.core.publisher.Mono;
 public class OrderHandler {
 
   private final OrderOperationManager orderOperationManager;
+  private final RequestCoalescer requestCoalescer;
+  private final ResponseCache responseCache;
 
-  public OrderHandler(OrderOperationManager orderOperationManager) {
+  public OrderHandler(OrderOperationManager orderOperationManager,
+      RequestCoalescer requestCoalescer, ResponseCache responseCache) {
     this.orderOperationManager = orderOperationManager;
+    this.requestCoalescer = requestCoalescer;
+    this.responseCache = responseCache;
   }
 
   public Mono<ServerResponse> createOrder(ServerRequest request) {
     return request.bodyToMono(CreateOrderRequest.class)
         .flatMap(orderOperationManager::createOrder)
         .flatMap(order -> ServerResponse.status(HttpStatus.CREATED).bodyValue(order))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Creation order failed: {}", error.getMessage());
           return ServerResponse.badRequest().build();
         });
   }
 
+  public Mono<ServerResponse> createOrders(ServerRequest request) {
+    return request.bodyToFlux(CreateOrderRequest.class)
+        .collectList()
+        .flatMap(orderOperationManager::createOrders)
+        .flatMap(results -> ServerResponse.ok().bodyValue(results))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
+        .onErrorResume(error -> {
+          log.error("Bulk creation of orders failed: {}", error.getMessage());
+          return ServerResponse.badRequest().build();
+        });
+  }
+
   public Mono<ServerResponse> getOrderById(ServerRequest request) {
     Long id = Long.valueOf(request.pathVariable("id"));
 
-    return orderOperationManager.getOrderById(id)
-        .flatMap(order -> ServerResponse.ok().bodyValue(order))
+    return responseCache.getOrLoad(request, ResponseCache.ORDERS, String.valueOf(id),
+            () -> requestCoalescer.coalesce(request, () -> orderOperationManager.getOrderById(id)),
+            OrderDTO::userId)
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Get order with id {} failed", id, error.getMessage());
           return ServerResponse.badRequest().build();
@@ -53,13 +76,15 @@ public class OrderHandler {
             .map(String::trim)
             .map(Long::valueOf)
             .toList())
-        .flatMap(orderOperationManager::getOrdersByIds)
+        .flatMap(ids -> requestCoalescer.coalesce(request,
+            () -> orderOperationManager.getOrdersByIds(ids)))
         .flatMap(orders -> {
           if (orders.isEmpty()) {
             return ServerResponse.noContent().build();
           }
           return ServerResponse.ok().bodyValue(orders);
         })
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           if (error instanceof IllegalArgumentException) {
             log.warn("Ids parameter is missing");
@@ -81,20 +106,23 @@ public class OrderHandler {
             .map(String::trim)
             .map(OrderStatus::valueOf)
             .toList())
-        .flatMap(orderOperationManager::getOrdersByStatuses)
-        .flatMap(orders -> ServerResponse.ok().bodyValue(orders))
-        .switchIfEmpty(ServerResponse.ok().bodyValue(Collections.emptyList()))
+        .flatMap(statuses -> request.queryParam("limit").isPresent()
+            ? PageResponses.ok(request, (after, limit) ->
+                orderOperationManager.getOrdersPageByStatuses(statuses, after, limit))
+            : StreamingResponses.ok(request,
+                orderOperationManager.getOrdersByStatuses(statuses), OrderDTO.class))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
-          if (error instanceof IllegalArgumentException) {
-            log.warn("Statuses parameter is missing");
-            return ServerResponse.badRequest().bodyValue("Statuses parameter is required");
-          }
-          if (error instanceof IllegalArgumentException && error.getMessage()
-              .contains("No enum constant")) {
+          if (error instanceof IllegalArgumentException && error.getMessage() != null
+              && error.getMessage().contains("No enum constant")) {
             log.warn("Invalid order status in request: {}",
                 request.queryParam("statuses").orElse(""));
             return ServerResponse.badRequest().bodyValue("Invalid order status");
           }
+          if (error instanceof IllegalArgumentException) {
+            log.warn("Statuses parameter is missing");
+            return ServerResponse.badRequest().bodyValue("Statuses parameter is required");
+          }
           log.error("Orders not found with statuses: {}", request.queryParam("statuses").orElse(""),
               error);
           return ServerResponse.ok().bodyValue(Collections.emptyList());
@@ -107,7 +135,10 @@ public class OrderHandler {
         .orElseThrow(() -> new IllegalArgumentException("Status parameter is required")));
 
     return orderOperationManager.updateOrder(id, status)
+        .flatMap(order -> responseCache.invalidate(ResponseCache.ORDERS, String.valueOf(id))
+            .thenReturn(order))
         .flatMap(order -> ServerResponse.ok().bodyValue(order))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Order was not updated with id {}", id, error);
           return ServerResponse.badRequest().build();
@@ -118,7 +149,9 @@ public class OrderHandler {
     Long id = Long.valueOf(request.pathVariable("id"));
 
     return orderOperationManager.deleteOrder(id)
+        .then(responseCache.invalidate(ResponseCache.ORDERS, String.valueOf(id)))
         .then(ServerResponse.noContent().build())
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Delete failed for order with id {}: {}", id, error.getMessage());
           return ServerResponse.noContent().build();
@@ -0,0 +1,63 @@
+package com.innowise.apigateway.handler;
+
+import com.innowise.apigateway.dto.PageResponse;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Builds responses of keyset page requests, i.e. requests with a {@code limit} parameter (see
+ * docs/keyset-pagination.md). A page request gets a page or an error, never the plain list of the
+ * unpaged route: a non-numeric limit, and a cursor or limit the service rejects, are answered
+ * with 400 Bad Request.
+ */
+@Slf4j
+final class PageResponses {
+
+  private PageResponses() {
+  }
+
+  /**
+   * @param request  request carrying {@code limit} and the optional {@code after} cursor
+   * @param loadPage loads the page for the cursor and limit
+   */
+  static <T> Mono<ServerResponse> ok(ServerRequest request,
+      BiFunction<String, Integer, Mono<PageResponse<T>>> loadPage) {
+    String limitParam = request.queryParam("limit").orElse("");
+    int limit;
+    try {
+      limit = Integer.parseInt(limitParam);
+    } catch (NumberFormatException e) {
+      log.warn("Invalid page limit in request: {}", limitParam);
+      return ServerResponse.badRequest().bodyValue("Invalid limit");
+    }
+
+    return loadPage.apply(request.queryParam("after").orElse(null), limit)
+        .flatMap(page -> ServerResponse.ok().bodyValue(page))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
+        .onErrorResume(PageResponses::isRejected, error -> {
+          log.warn("Page request {} rejected by the service: {}", request.uri(),
+              error.getMessage());
+          return ServerResponse.badRequest().bodyValue("Invalid page cursor or limit");
+        })
+        .onErrorResume(error -> {
+          log.error("Page request {} failed", request.uri(), error);
+          return ServerResponse.badRequest().build();
+        });
+  }
+
+  /**
+   * The service answered 400, the managers wrap the client exception so the cause chain is walked
+   */
+  private static boolean isRejected(Throwable error) {
+    for (Throwable current = error; current != null; current = current.getCause()) {
+      if (current instanceof WebClientResponseException.BadRequest) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,80 @@
+package com.innowise.apigateway.handler;
+
+import com.innowise.apigateway.config.ServiceConfig;
+import com.innowise.apigateway.config.WebClientConfig;
+import java.net.URI;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring WebFlux handler proxying read routes that need no transformation. The downstream body
+ * is streamed to the client as raw data buffers, status and end-to-end headers are preserved.
+ * Routes the gateway coalesces, streams or pages stay on their handlers.
+ */
+@Slf4j
+@Component
+public class PassthroughHandler {
+
+  private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+      HttpHeaders.CONNECTION, "Keep-Alive", HttpHeaders.TRANSFER_ENCODING, HttpHeaders.TE,
+      HttpHeaders.TRAILER, HttpHeaders.UPGRADE, HttpHeaders.PROXY_AUTHENTICATE,
+      HttpHeaders.PROXY_AUTHORIZATION);
+
+  private final WebClient cardWebClient;
+  private final ServiceConfig serviceConfig;
+
+  public PassthroughHandler(@Qualifier(WebClientConfig.CARD_SERVICE) WebClient cardWebClient,
+      ServiceConfig serviceConfig) {
+    this.cardWebClient = cardWebClient;
+    this.serviceConfig = serviceConfig;
+  }
+
+  public Mono<ServerResponse> forwardToCardService(ServerRequest request) {
+    return forward(cardWebClient, serviceConfig.getCardServiceUrl(), request);
+  }
+
+  private Mono<ServerResponse> forward(WebClient webClient, String serviceUrl,
+      ServerRequest request) {
+    URI uri = UriComponentsBuilder.fromHttpUrl(serviceUrl)
+        .path(request.uri().getRawPath())
+        .query(request.uri().getRawQuery())
+        .build(true)
+        .toUri();
+
+    return webClient.method(request.method())
+        .uri(uri)
+        .headers(headers -> headers.setAccept(request.headers().accept()))
+        .retrieve()
+        .onStatus(HttpStatusCode::isError, response -> Mono.empty())
+        .toEntityFlux(DataBuffer.class)
+        .flatMap(entity -> ServerResponse.status(entity.getStatusCode())
+            .headers(headers -> copyEndToEndHeaders(entity.getHeaders(), headers))
+            .body(BodyInserters.fromDataBuffers(entity.getBody())))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
+        .onErrorResume(error -> {
+          log.error("API Gateway: Passthrough of {} failed: {}", request.path(),
+              error.getMessage());
+          return ServerResponse.status(HttpStatus.BAD_GATEWAY).build();
+        });
+  }
+
+  private void copyEndToEndHeaders(HttpHeaders source, HttpHeaders target) {
+    source.forEach((name, values) -> {
+      if (HOP_BY_HOP_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+        target.addAll(name, values);
+      }
+    });
+  }
+}
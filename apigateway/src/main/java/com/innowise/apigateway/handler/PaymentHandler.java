@@ -1,7 +1,9 @@
 package com.innowise.apigateway.handler;
 
+import com.innowise.apigateway.dto.payment.PaymentDTO;
 import com.innowise.apigateway.enums.PaymentStatus;
 import com.innowise.apigateway.manager.PaymentOperationManager;
+import com.innowise.apigateway.service.coalescing.RequestCoalescer;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -19,16 +21,25 @@ import reactor.core.publisher.Mono;
 public class PaymentHandler {
 
   private final PaymentOperationManager paymentOperationManager;
+  private final RequestCoalescer requestCoalescer;
 
-  public PaymentHandler(PaymentOperationManager paymentOperationManager) {
+  public PaymentHandler(PaymentOperationManager paymentOperationManager,
+      RequestCoalescer requestCoalescer) {
     this.paymentOperationManager = paymentOperationManager;
+    this.requestCoalescer = requestCoalescer;
   }
 
   public Mono<ServerResponse> getPaymentsByUserId(ServerRequest request) {
     String userId = request.pathVariable("userId");
 
-    return paymentOperationManager.getPaymentByUserId(userId)
-        .flatMap(payment -> ServerResponse.ok().bodyValue(payment))
+    if (request.queryParam("limit").isPresent()) {
+      return PageResponses.ok(request, (after, limit) ->
+          paymentOperationManager.getPaymentsPageByUserId(userId, after, limit));
+    }
+
+    return StreamingResponses.ok(request, paymentOperationManager.getPaymentByUserId(userId),
+        PaymentDTO.class)
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Get payment with userId {} failed", userId, error.getMessage());
           return ServerResponse.badRequest().build();
@@ -38,8 +49,10 @@ public class PaymentHandler {
   public Mono<ServerResponse> getPaymentsByOrderId(ServerRequest request) {
     Long orderId = Long.valueOf(request.pathVariable("orderId"));
 
-    return paymentOperationManager.getPaymentByOrderId(orderId)
+    return requestCoalescer.coalesce(request,
+        () -> paymentOperationManager.getPaymentByOrderId(orderId))
         .flatMap(payment -> ServerResponse.ok().bodyValue(payment))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Get payment with orderId {} failed", orderId, error.getMessage());
           return ServerResponse.badRequest().build();
@@ -53,20 +66,23 @@ public class PaymentHandler {
             .map(String::trim)
             .map(PaymentStatus::valueOf)
             .toList())
-        .flatMap(paymentOperationManager::getPaymentByPaymentsStatuses)
-        .flatMap(payments -> ServerResponse.ok().bodyValue(payments))
-        .switchIfEmpty(ServerResponse.ok().bodyValue(Collections.emptyList()))
+        .flatMap(statuses -> request.queryParam("limit").isPresent()
+            ? PageResponses.ok(request, (after, limit) ->
+                paymentOperationManager.getPaymentsPageByStatuses(statuses, after, limit))
+            : StreamingResponses.ok(request,
+                paymentOperationManager.getPaymentByPaymentsStatuses(statuses), PaymentDTO.class))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
-          if (error instanceof IllegalArgumentException) {
-            log.warn("Statuses parameter is missing");
-            return ServerResponse.badRequest().bodyValue("Statuses parameter is required");
-          }
-          if (error instanceof IllegalArgumentException && error.getMessage()
-              .contains("No enum constant")) {
+          if (error instanceof IllegalArgumentException && error.getMessage() != null
+              && error.getMessage().contains("No enum constant")) {
             log.warn("Invalid payment status in request: {}",
                 request.queryParam("statuses").orElse(""));
             return ServerResponse.badRequest().bodyValue("Invalid payment status");
           }
+          if (error instanceof IllegalArgumentException) {
+            log.warn("Statuses parameter is missing");
+            return ServerResponse.badRequest().bodyValue("Statuses parameter is required");
+          }
           log.error("Payments were not found with statuses: {}", request.queryParam("statuses")
               .orElse(""), error);
           return ServerResponse.ok().bodyValue(Collections.emptyList());
@@ -79,8 +95,10 @@ public class PaymentHandler {
     LocalDateTime endDate = LocalDateTime.parse(request.queryParam("end")
         .orElseThrow(() -> new IllegalArgumentException("End parameter is required")));
 
-    return paymentOperationManager.getTotalSumOfPeriod(startDate, endDate)
+    return requestCoalescer.coalesce(request,
+        () -> paymentOperationManager.getTotalSumOfPeriod(startDate, endDate))
         .flatMap(sum -> ServerResponse.ok().bodyValue(sum))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Get total sum of payment for period {}, {} failed", startDate, endDate,
               error.getMessage());
@@ -0,0 +1,27 @@
+package com.innowise.apigateway.handler;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Builds responses that write list elements as they arrive instead of collecting them first.
+ * Clients accepting NDJSON get one JSON document per line, others get a streamed JSON array.
+ */
+final class StreamingResponses {
+
+  private StreamingResponses() {
+  }
+
+  static <T> Mono<ServerResponse> ok(ServerRequest request, Flux<T> elements, Class<T> type) {
+    MediaType contentType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+        ? MediaType.APPLICATION_NDJSON
+        : MediaType.APPLICATION_JSON;
+
+    return ServerResponse.ok()
+        .contentType(contentType)
+        .body(elements, type);
+  }
+}
@@ -1,10 +1,15 @@
 package com.innowise.apigateway.handler;
 
 import com.innowise.apigateway.dto.user.UpdateUserRequest;
+import com.innowise.apigateway.enums.OverviewSection;
 import com.innowise.apigateway.manager.UserOperationManager;
+import com.innowise.apigateway.manager.UserOverviewManager;
+import com.innowise.apigateway.service.cache.ResponseCache;
+import com.innowise.apigateway.service.coalescing.RequestCoalescer;
 import java.util.Arrays;
 import java.util.Collections;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
@@ -18,30 +23,69 @@ import reactor.core.publisher.Mono;
 public class UserHandler {
 
   private final UserOperationManager userOperationManager;
+  private final UserOverviewManager userOverviewManager;
+  private final RequestCoalescer requestCoalescer;
+  private final ResponseCache responseCache;
 
-  public UserHandler(UserOperationManager userOperationManager) {
+  public UserHandler(UserOperationManager userOperationManager,
+      UserOverviewManager userOverviewManager, RequestCoalescer requestCoalescer,
+      ResponseCache responseCache) {
     this.userOperationManager = userOperationManager;
+    this.userOverviewManager = userOverviewManager;
+    this.requestCoalescer = requestCoalescer;
+    this.responseCache = responseCache;
   }
 
   public Mono<ServerResponse> getUserById(ServerRequest request) {
     String id = request.pathVariable("id");
     log.info("Getting user by id: {}", id);
 
-    return userOperationManager.getUserById(id)
-        .flatMap(user -> ServerResponse.ok().bodyValue(user))
+    return responseCache.getOrLoad(request, ResponseCache.USERS, id,
+            () -> requestCoalescer.coalesce(request, () -> userOperationManager.getUserById(id)))
         .switchIfEmpty(ServerResponse.notFound().build())
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Error getting user with id {}: {}", id, error.getMessage());
           return ServerResponse.badRequest().bodyValue("Error retrieving user");
         });
   }
 
+  public Mono<ServerResponse> getUserOverview(ServerRequest request) {
+    String id = request.pathVariable("id");
+
+    return Mono.fromCallable(() -> OverviewSection.parse(request.queryParam("include")
+            .orElse(null)))
+        .flatMap(sections -> requestCoalescer.coalesce(request,
+                () -> userOverviewManager.getUserOverview(id, sections))
+            .flatMap(overview -> {
+              if (UserOverviewManager.NOT_FOUND.equals(
+                  overview.errors().get(OverviewSection.USER.key()))) {
+                return ServerResponse.notFound().build();
+              }
+              if (overview.errors().size() == sections.size()) {
+                return ServerResponse.status(HttpStatus.BAD_GATEWAY).bodyValue(overview);
+              }
+              return ServerResponse.ok().bodyValue(overview);
+            }))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
+        .onErrorResume(error -> {
+          if (error instanceof IllegalArgumentException) {
+            log.warn("Invalid include parameter: {}", request.queryParam("include").orElse(""));
+            return ServerResponse.badRequest().bodyValue("Invalid include parameter");
+          }
+          log.error("Error getting overview of user {}: {}", id, error.getMessage());
+          return ServerResponse.status(HttpStatus.BAD_GATEWAY).build();
+        });
+  }
+
   public Mono<ServerResponse> getUsersByIds(ServerRequest request) {
     return Mono.justOrEmpty(request.queryParam("ids"))
         .switchIfEmpty(Mono.error(new IllegalArgumentException("Ids parameter is required")))
         .map(ids -> Arrays.asList(ids.split(",")))
-        .flatMap(userOperationManager::getUserByIds)
+        .flatMap(ids -> requestCoalescer.coalesce(request,
+            () -> userOperationManager.getUserByIds(ids)))
         .flatMap(users -> ServerResponse.ok().bodyValue(users))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           if (error instanceof IllegalArgumentException) {
             log.warn("Ids parameter is missing");
@@ -55,8 +99,10 @@ public class UserHandler {
   public Mono<ServerResponse> getUserByEmail(ServerRequest request) {
     return Mono.justOrEmpty(request.queryParam("email"))
         .switchIfEmpty(Mono.error(new IllegalArgumentException("Email parameter is required")))
-        .flatMap(userOperationManager::getUserByEmail)
+        .flatMap(email -> requestCoalescer.coalesce(request,
+            () -> userOperationManager.getUserByEmail(email)))
         .flatMap(user -> ServerResponse.ok().bodyValue(user))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           if (error instanceof IllegalArgumentException) {
             log.warn("Email parameter is missing");
@@ -72,7 +118,9 @@ public class UserHandler {
 
     return request.bodyToMono(UpdateUserRequest.class)
         .flatMap(updateRequest -> userOperationManager.updateUser(id, updateRequest))
+        .flatMap(user -> responseCache.invalidate(ResponseCache.USERS, id).thenReturn(user))
         .flatMap(user -> ServerResponse.ok().bodyValue(user))
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("User was not updated with id {}", id, error);
           return ServerResponse.notFound().build();
@@ -84,6 +132,7 @@ public class UserHandler {
 
     return userOperationManager.deleteUser(id)
         .then(ServerResponse.ok().build())
+        .onErrorResume(DownstreamErrors::isUnavailable, DownstreamErrors.respond(request))
         .onErrorResume(error -> {
           log.error("Delete failed for user {}: {}", id, error.getMessage());
           return ServerResponse.badRequest().build();
@@ -1,11 +1,13 @@
 package com.innowise.apigateway.manager;
 
+import com.innowise.apigateway.config.JwtProperties;
 import com.innowise.apigateway.dto.auth.login.LoginRequest;
 import com.innowise.apigateway.dto.auth.login.LoginResponse;
 import com.innowise.apigateway.dto.auth.registration.RegistrationRequest;
 import com.innowise.apigateway.dto.auth.registration.RegistrationResponse;
 import com.innowise.apigateway.dto.auth.token.RefreshTokenRequest;
 import com.innowise.apigateway.dto.auth.token.TokenValidationResponse;
+import com.innowise.apigateway.security.JwtTokenVerifier;
 import com.innowise.apigateway.service.AuthServiceClient;
 import com.innowise.apigateway.service.UserServiceClient;
 import lombok.extern.slf4j.Slf4j;
@@ -19,11 +21,17 @@ public class AuthOperationManager {
   private final AuthServiceClient authClient;
   private final UserServiceClient userClient;
   private final RollbackManager rollbackManager;
+  private final JwtTokenVerifier jwtTokenVerifier;
+  private final JwtProperties jwtProperties;
 
-  public AuthOperationManager(AuthServiceClient authClient, UserServiceClient userClient, RollbackManager rollbackManager) {
+  public AuthOperationManager(AuthServiceClient authClient, UserServiceClient userClient,
+      RollbackManager rollbackManager, JwtTokenVerifier jwtTokenVerifier,
+      JwtProperties jwtProperties) {
     this.authClient = authClient;
     this.userClient = userClient;
     this.rollbackManager = rollbackManager;
+    this.jwtTokenVerifier = jwtTokenVerifier;
+    this.jwtProperties = jwtProperties;
   }
 
 
@@ -96,9 +104,27 @@ public class AuthOperationManager {
   }
 
   /**
-   * Validate token
+   * Validate token. Tokens are verified locally when enabled, auth-service is called only when
+   * local validation is disabled or a rejected token should be double-checked remotely
    */
   public Mono<TokenValidationResponse> validateToken(String token) {
+    JwtProperties.Validation validation = jwtProperties.getValidation();
+    if (!validation.isLocal()) {
+      return validateTokenInAuthService(token);
+    }
+
+    return jwtTokenVerifier.verify(token)
+        .flatMap(localResponse -> {
+          if (localResponse.valid() || !validation.isRemoteFallback()) {
+            return Mono.just(localResponse);
+          }
+
+          log.info("API Gateway: Local token validation failed, falling back to AuthService");
+          return validateTokenInAuthService(token);
+        });
+  }
+
+  private Mono<TokenValidationResponse> validateTokenInAuthService(String token) {
     log.info("API Gateway: Attempting validate token");
 
     return authClient.createValidateTokenInAuthService(token)
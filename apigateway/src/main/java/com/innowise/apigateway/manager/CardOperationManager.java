@@ -1,5 +1,6 @@
 package com.innowise.apigateway.manager;
 
+import com.innowise.apigateway.dto.PageResponse;
 import com.innowise.apigateway.dto.card.CardDTO;
 import com.innowise.apigateway.dto.card.CreateCardRequest;
 import com.innowise.apigateway.dto.card.UpdateCardRequest;
@@ -58,6 +59,22 @@ public class CardOperationManager {
         });
   }
 
+  /**
+   * Get one page of cards by userId
+   */
+  public Mono<PageResponse<CardDTO>> getCardsPageByUserId(String id, String after, int limit) {
+    log.info("API Gateway: Starting find cards page by userId in CardService: {}", id);
+
+    return cardClient.getCardsPageByUserIdInCardService(id, after, limit)
+        .map(page -> new PageResponse<>(page.items().stream()
+            .map(card -> new CardDTO(card.number(), card.holder(), card.expirationDate()))
+            .toList(), page.next()))
+        .onErrorResume(error -> {
+          log.error("API Gateway: Get cards page by userId failed: {}", error.getMessage());
+          return Mono.error(new RuntimeException("Get cards page by userId failed", error));
+        });
+  }
+
   /**
    * Get list cards by ids
    */
@@ -1,5 +1,7 @@
 package com.innowise.apigateway.manager;
 
+import com.innowise.apigateway.dto.PageResponse;
+import com.innowise.apigateway.dto.order.BulkOrderResult;
 import com.innowise.apigateway.dto.order.CreateOrderRequest;
 import com.innowise.apigateway.dto.order.OrderDTO;
 import com.innowise.apigateway.enums.OrderStatus;
@@ -7,6 +9,7 @@ import com.innowise.apigateway.service.OrderServiceClient;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -37,6 +40,21 @@ public class OrderOperationManager {
         });
   }
 
+  /**
+   * Create orders in bulk
+   */
+  public Mono<List<BulkOrderResult>> createOrders(List<CreateOrderRequest> requests) {
+    log.info("API Gateway: Starting bulk create of {} orders", requests.size());
+
+    return orderClient.createOrdersInOrderService(requests)
+        .doOnNext(results -> log.info("API Gateway: Bulk create of {} orders finished",
+            results.size()))
+        .onErrorResume(error -> {
+          log.error("API Gateway: Bulk creation of orders failed: {}", error.getMessage());
+          return Mono.error(new RuntimeException("Bulk creation of orders failed", error));
+        });
+  }
+
   /**
    * Get order by id
    */
@@ -76,22 +94,55 @@ public class OrderOperationManager {
   }
 
   /**
-   * Get list orders by statuses
+   * Get list orders by user id
    */
-  public Mono<List<OrderDTO>> getOrdersByStatuses(List<OrderStatus> statuses) {
-    log.info("API Gateway: Starting find orders by statuses in OrderService: {}", statuses);
-    return orderClient.getOrdersByStatusesInOrderService(statuses)
+  public Mono<List<OrderDTO>> getOrdersByUserId(String userId) {
+    log.info("API Gateway: Starting find orders by userId in OrderService: {}", userId);
+    return orderClient.getOrdersByUserIdInOrderService(userId)
         .doOnSuccess(orderDTOs ->
-            log.info("API Gateway: get orders by statuses {} successful. Found {} orders", statuses,
+            log.info("API Gateway: get orders by userId {} successful. Found {} orders", userId,
                 orderDTOs.size()))
         .map(orderDTOs -> orderDTOs.stream()
             .map(order -> new OrderDTO(order.userId(), order.status(), order.creationDate(),
                 order.orderItems()))
             .toList()
         )
+        .onErrorResume(error -> {
+          log.error("API Gateway: Get orders by userId failed: {}", error.getMessage());
+          return Mono.error(new RuntimeException("Get orders by userId failed", error));
+        });
+  }
+
+  /**
+   * Get list orders by statuses
+   */
+  public Flux<OrderDTO> getOrdersByStatuses(List<OrderStatus> statuses) {
+    log.info("API Gateway: Starting find orders by statuses in OrderService: {}", statuses);
+    return orderClient.getOrdersByStatusesInOrderService(statuses)
+        .map(order -> new OrderDTO(order.userId(), order.status(), order.creationDate(),
+            order.orderItems()))
+        .doOnComplete(() ->
+            log.info("API Gateway: get orders by statuses {} successful", statuses))
         .onErrorResume(error -> {
           log.error("API Gateway: Get orders by statuses failed", error.getMessage());
-          return Mono.error(new RuntimeException("Get orders by statuses failed", error));
+          return Flux.error(new RuntimeException("Get orders by statuses failed", error));
+        });
+  }
+
+  /**
+   * Get one page of orders by statuses
+   */
+  public Mono<PageResponse<OrderDTO>> getOrdersPageByStatuses(List<OrderStatus> statuses,
+      String after, int limit) {
+    log.info("API Gateway: Starting find orders page by statuses in OrderService: {}", statuses);
+    return orderClient.getOrdersPageByStatusesInOrderService(statuses, after, limit)
+        .map(page -> new PageResponse<>(page.items().stream()
+            .map(order -> new OrderDTO(order.userId(), order.status(), order.creationDate(),
+                order.orderItems()))
+            .toList(), page.next()))
+        .onErrorResume(error -> {
+          log.error("API Gateway: Get orders page by statuses failed: {}", error.getMessage());
+          return Mono.error(new RuntimeException("Get orders page by statuses failed", error));
         });
   }
 
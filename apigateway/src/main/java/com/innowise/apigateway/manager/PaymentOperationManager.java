@@ -1,5 +1,6 @@
 package com.innowise.apigateway.manager;
 
+import com.innowise.apigateway.dto.PageResponse;
 import com.innowise.apigateway.dto.payment.PaymentDTO;
 import com.innowise.apigateway.enums.PaymentStatus;
 import com.innowise.apigateway.service.PaymentServiceClient;
@@ -8,6 +9,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -23,19 +25,29 @@ public class PaymentOperationManager {
   /**
    * Get payment by user id
    */
-  public Mono<List<PaymentDTO>> getPaymentByUserId(String userId) {
+  public Flux<PaymentDTO> getPaymentByUserId(String userId) {
     log.info("API Gateway: Starting find payment by userId in PaymentService: {}", userId);
     return paymentClient.getPaymentByUserId(userId)
-        .doOnSuccess(paymentDTOs ->
-            log.info("API Gateway: get payment by userId {} successful. Found {} payments", userId,
-                paymentDTOs.size()))
-        .map(paymentDTOs -> paymentDTOs.stream()
-            .map(payment -> new PaymentDTO(payment.orderId(), payment.userId(), payment.status(),
-                payment.paymentAmount()))
-            .toList())
+        .map(payment -> new PaymentDTO(payment.orderId(), payment.userId(), payment.status(),
+            payment.paymentAmount()))
+        .doOnComplete(() ->
+            log.info("API Gateway: get payment by userId {} successful", userId))
         .onErrorResume(error -> {
           log.error("API Gateway: Get payment by userId failed", error.getMessage());
-          return Mono.error(new RuntimeException("Get payment by userId failed", error));
+          return Flux.error(new RuntimeException("Get payment by userId failed", error));
+        });
+  }
+
+  /**
+   * Get one page of payments by user id
+   */
+  public Mono<PageResponse<PaymentDTO>> getPaymentsPageByUserId(String userId, String after,
+      int limit) {
+    log.info("API Gateway: Starting find payments page by userId in PaymentService: {}", userId);
+    return paymentClient.getPaymentsPageByUserId(userId, after, limit)
+        .onErrorResume(error -> {
+          log.error("API Gateway: Get payments page by userId failed: {}", error.getMessage());
+          return Mono.error(new RuntimeException("Get payments page by userId failed", error));
         });
   }
 
@@ -62,20 +74,31 @@ public class PaymentOperationManager {
   /**
    * Get payments by statuses
    */
-  public Mono<List<PaymentDTO>> getPaymentByPaymentsStatuses(List<PaymentStatus> statuses) {
+  public Flux<PaymentDTO> getPaymentByPaymentsStatuses(List<PaymentStatus> statuses) {
     log.info("API Gateway: Starting find s by statuses in PaymentService: {}", statuses);
     return paymentClient.getPaymentsByStatuses(statuses)
-        .doOnSuccess(paymentDTOs ->
-            log.info("API Gateway: get payments by statuses {} successful. Found {} payments",
-                statuses,
-                paymentDTOs.size()))
-        .map(paymentDTOs -> paymentDTOs.stream()
-            .map(payment -> new PaymentDTO(payment.orderId(), payment.userId(), payment.status(),
-                payment.paymentAmount()))
-            .toList())
+        .map(payment -> new PaymentDTO(payment.orderId(), payment.userId(), payment.status(),
+            payment.paymentAmount()))
+        .doOnComplete(() ->
+            log.info("API Gateway: get payments by statuses {} successful", statuses))
         .onErrorResume(error -> {
           log.error("API Gateway: Get payments by statuses failed", error.getMessage());
-          return Mono.error(new RuntimeException("Get payments by statuses failed", error));
+          return Flux.error(new RuntimeException("Get payments by statuses failed", error));
+        });
+  }
+
+  /**
+   * Get one page of payments by statuses
+   */
+  public Mono<PageResponse<PaymentDTO>> getPaymentsPageByStatuses(List<PaymentStatus> statuses,
+      String after, int limit) {
+    log.info("API Gateway: Starting find payments page by statuses in PaymentService: {}",
+        statuses);
+    return paymentClient.getPaymentsPageByStatuses(statuses, after, limit)
+        .onErrorResume(error -> {
+          log.error("API Gateway: Get payments page by statuses failed: {}",
+              error.getMessage());
+          return Mono.error(new RuntimeException("Get payments page by statuses failed", error));
         });
   }
 
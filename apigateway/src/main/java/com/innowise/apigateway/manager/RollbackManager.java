@@ -1,6 +1,7 @@
 package com.innowise.apigateway.manager;
 
 import com.innowise.apigateway.config.ServiceConfig;
+import com.innowise.apigateway.config.WebClientConfig;
 import com.innowise.apigateway.dto.auth.recovery.UserCredentialsDataRecovery;
 import com.innowise.apigateway.dto.card.CardDTO;
 import com.innowise.apigateway.dto.card.CreateCardRequest;
@@ -9,6 +10,7 @@ import com.innowise.apigateway.dto.user.registration.UserCreateRequest;
 import com.innowise.apigateway.dto.user.registration.UserCreateResponse;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -20,10 +22,17 @@ import reactor.core.publisher.Mono;
 public class RollbackManager {
 
   private final WebClient webClient;
+  private final WebClient authWebClient;
+  private final WebClient cardWebClient;
   private final ServiceConfig serviceConfig;
 
-  public RollbackManager(WebClient webClient, ServiceConfig serviceConfig) {
+  public RollbackManager(@Qualifier(WebClientConfig.USER_SERVICE) WebClient webClient,
+      @Qualifier(WebClientConfig.AUTH_SERVICE) WebClient authWebClient,
+      @Qualifier(WebClientConfig.CARD_SERVICE) WebClient cardWebClient,
+      ServiceConfig serviceConfig) {
     this.webClient = webClient;
+    this.authWebClient = authWebClient;
+    this.cardWebClient = cardWebClient;
     this.serviceConfig = serviceConfig;
   }
 
@@ -53,7 +62,7 @@ public class RollbackManager {
     log.info("Rolling back user creation for: {}", id);
 
     return webClient.delete()
-        .uri("http://user-service:8088/api/v1/users/internal/{id}", id)
+        .uri(serviceConfig.getUserServiceUrl() + "/api/v1/users/internal/{id}", id)
         .retrieve()
         .toBodilessEntity()
         .then()
@@ -69,7 +78,7 @@ public class RollbackManager {
    */
   public Mono<Void> rollbackAuthServiceDeletion(UserCredentialsDataRecovery data) {
     log.info("API Gateway: Rolling back AuthService deletion for user {}", data.uuid());
-    return webClient.post()
+    return authWebClient.post()
         .uri(serviceConfig.getAuthServiceUrl() + "/api/v1/auth/recovery/register")
         .contentType(MediaType.APPLICATION_JSON)
         .bodyValue(data)
@@ -122,7 +131,7 @@ public class RollbackManager {
               cardDTO.expirationDate()
           );
 
-          return webClient.post()
+          return cardWebClient.post()
               .uri(serviceConfig.getCardServiceUrl() + "/api/v1/cards?userId={userId}", id)
               .contentType(MediaType.APPLICATION_JSON)
               .bodyValue(cardRequest)
@@ -2,6 +2,7 @@ package com.innowise.apigateway.manager;
 
 import com.innowise.apigateway.dto.user.UpdateUserRequest;
 import com.innowise.apigateway.dto.user.UserDTO;
+import com.innowise.apigateway.saga.UserDeletionSagaOrchestrator;
 import com.innowise.apigateway.service.UserServiceClient;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
@@ -13,11 +14,12 @@ import reactor.core.publisher.Mono;
 public class UserOperationManager {
 
   private final UserServiceClient userClient;
-  private final RollbackManager rollbackManager;
+  private final UserDeletionSagaOrchestrator userDeletionSaga;
 
-  public UserOperationManager(UserServiceClient userClient, RollbackManager rollbackManager) {
+  public UserOperationManager(UserServiceClient userClient,
+      UserDeletionSagaOrchestrator userDeletionSaga) {
     this.userClient = userClient;
-    this.rollbackManager = rollbackManager;
+    this.userDeletionSaga = userDeletionSaga;
   }
 
   /**
@@ -92,52 +94,12 @@ public class UserOperationManager {
   }
 
   /**
-   * Deleting a user and his cards
+   * Deleting a user and his cards, auth credentials and orders
    */
   public Mono<Void> deleteUser(String id) {
     log.info("API Gateway: Starting delete user with id {}", id);
 
-    return userClient.deleteUserInUserService(id)
-        .doOnSubscribe(s -> log.info("API Gateway: UserService deletion subscribed"))
-        .doOnSuccess(userData ->
-            log.info("API Gateway: UserService deletion completed. User data received"))
-        .flatMap(userData -> {
-          log.info("API Gateway: Starting AuthService deletion for id {}", id);
-
-          return userClient.deleteUserInAuthService(id)
-              .doOnSubscribe(s -> log.info("API Gateway: AuthService deletion subscribed"))
-              .doOnSuccess(authResult ->
-                  log.info("API Gateway: AuthService deletion successful for id {}", id))
-              .flatMap(authResult -> {
-                log.info("API Gateway: Starting OrderService deletion for id {}", id);
-
-                return userClient.deleteUserOrdersInOrderService(id)
-                    .doOnSubscribe(s -> log.info("API Gateway: OrderService deletion subscribed"))
-                    .doOnSuccess(orderResult ->
-                        log.info("API Gateway: OrderService deletion successful for id {}", id))
-                    .onErrorResume(error -> {
-                      log.error(
-                          "API Gateway: OrderService deletion failed, initiating rollback for id {}",
-                          id);
-                      return rollbackManager.rollbackAuthServiceDeletion(authResult)
-                          .then(rollbackManager.rollbackUserDeletion(id, userData))
-                          .then(rollbackManager.rollbackCardDeletion(id, userData))
-                          .then(Mono.error(
-                              new RuntimeException("Deletion failed in order service", error)));
-                    });
-              })
-
-              .onErrorResume(error -> {
-                log.error(
-                    "API Gateway: AuthService deletion failed, initiating rollback for id {}",
-                    id);
-                return rollbackManager.rollbackUserDeletion(id, userData)
-                    .then(rollbackManager.rollbackCardDeletion(id, userData))
-                    .then(
-                        Mono.error(new RuntimeException("Deletion failed in auth service", error)));
-              });
-        })
-        .doOnSuccess(v -> log.info("API Gateway: User {} fully deleted from all services", id))
+    return userDeletionSaga.deleteUser(id)
         .onErrorResume(error -> {
           log.error("API Gateway: Overall deletion failed: {}", error.getMessage());
           return Mono.error(new RuntimeException("Delete user failed", error));
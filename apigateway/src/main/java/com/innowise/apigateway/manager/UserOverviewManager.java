@@ -0,0 +1,103 @@
+package com.innowise.apigateway.manager;
+
+import com.innowise.apigateway.config.OverviewProperties;
+import com.innowise.apigateway.dto.user.UserOverviewDTO;
+import com.innowise.apigateway.enums.OverviewSection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+public class UserOverviewManager {
+
+  public static final String NOT_FOUND = "not_found";
+  private static final String TIMEOUT = "timeout";
+  private static final String UNAVAILABLE = "unavailable";
+
+  private final UserOperationManager userOperationManager;
+  private final CardOperationManager cardOperationManager;
+  private final OrderOperationManager orderOperationManager;
+  private final PaymentOperationManager paymentOperationManager;
+  private final OverviewProperties overviewProperties;
+
+  public UserOverviewManager(UserOperationManager userOperationManager,
+      CardOperationManager cardOperationManager, OrderOperationManager orderOperationManager,
+      PaymentOperationManager paymentOperationManager, OverviewProperties overviewProperties) {
+    this.userOperationManager = userOperationManager;
+    this.cardOperationManager = cardOperationManager;
+    this.orderOperationManager = orderOperationManager;
+    this.paymentOperationManager = paymentOperationManager;
+    this.overviewProperties = overviewProperties;
+  }
+
+  /**
+   * Get the overview of a user. The requested sections are loaded concurrently, each with its own
+   * timeout, so the overview takes as long as its slowest section. A failed section is reported in
+   * errors instead of failing the whole overview.
+   */
+  public Mono<UserOverviewDTO> getUserOverview(String id, Set<OverviewSection> sections) {
+    log.info("API Gateway: Starting build overview of user {}: {}", id, sections);
+    Map<String, String> errors = new ConcurrentHashMap<>();
+
+    return Mono.zip(
+            section(OverviewSection.USER, id, sections, errors,
+                () -> userOperationManager.getUserById(id)),
+            section(OverviewSection.CARDS, id, sections, errors,
+                () -> cardOperationManager.getCardByUserId(id)),
+            section(OverviewSection.ORDERS, id, sections, errors,
+                () -> orderOperationManager.getOrdersByUserId(id)),
+            section(OverviewSection.PAYMENTS, id, sections, errors,
+                () -> paymentOperationManager.getPaymentByUserId(id).collectList()))
+        .map(result -> new UserOverviewDTO(
+            result.getT1().orElse(null),
+            result.getT2().orElse(null),
+            result.getT3().orElse(null),
+            result.getT4().orElse(null),
+            Map.copyOf(errors)))
+        .doOnSuccess(overview -> log.info("API Gateway: overview of user {} built, failed: {}",
+            id, overview.errors().keySet()));
+  }
+
+  private <T> Mono<Optional<T>> section(OverviewSection section, String id,
+      Set<OverviewSection> sections, Map<String, String> errors, Supplier<Mono<T>> call) {
+    if (!sections.contains(section)) {
+      return Mono.just(Optional.empty());
+    }
+
+    return Mono.defer(call)
+        .timeout(overviewProperties.getTimeout(section.key()))
+        .map(Optional::of)
+        .switchIfEmpty(Mono.fromSupplier(() -> {
+          errors.put(section.key(), NOT_FOUND);
+          return Optional.empty();
+        }))
+        .onErrorResume(error -> {
+          String reason = reason(error);
+          log.warn("API Gateway: Overview section {} of user {} failed: {}", section.key(), id,
+              reason);
+          errors.put(section.key(), reason);
+          return Mono.just(Optional.empty());
+        });
+  }
+
+  private String reason(Throwable error) {
+    for (Throwable cause = Exceptions.unwrap(error); cause != null; cause = cause.getCause()) {
+      if (cause instanceof TimeoutException) {
+        return TIMEOUT;
+      }
+      if (cause instanceof WebClientResponseException.NotFound) {
+        return NOT_FOUND;
+      }
+    }
+    return UNAVAILABLE;
+  }
+}
@@ -0,0 +1,158 @@
+package com.innowise.apigateway.saga;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.apigateway.config.SagaProperties;
+import com.innowise.apigateway.dto.auth.recovery.UserCredentialsDataRecovery;
+import com.innowise.apigateway.dto.user.UserWithCardDTO;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Persists user deletion sagas in Redis. Each saga is a hash with one field per step, so
+ * concurrently finishing steps never overwrite each other; ids of unfinished sagas are kept in a
+ * set used for recovery.
+ */
+@Component
+public class SagaLogRepository {
+
+  private static final String KEY_PREFIX = "saga:user-deletion:";
+  private static final String ACTIVE_KEY = "saga:user-deletion:active";
+  private static final String USER_ID = "userId";
+  private static final String STATE = "state";
+  private static final String UPDATED_AT = "updatedAt";
+  private static final String STEP_PREFIX = "step:";
+  private static final String USER_DATA = "userData";
+  private static final String AUTH_DATA = "authData";
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final SagaProperties sagaProperties;
+
+  public SagaLogRepository(ReactiveStringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+      SagaProperties sagaProperties) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.sagaProperties = sagaProperties;
+  }
+
+  /**
+   * Store a new saga
+   */
+  public Mono<Void> create(UserDeletionSaga saga) {
+    Map<String, String> fields = new HashMap<>();
+    fields.put(USER_ID, saga.getUserId());
+    fields.put(STATE, saga.getState().name());
+    fields.put(UPDATED_AT, Instant.now().toString());
+    saga.getSteps().forEach((step, status) -> fields.put(STEP_PREFIX + step, status.name()));
+
+    String key = key(saga.getSagaId());
+    return redisTemplate.opsForHash().putAll(key, fields)
+        .then(redisTemplate.expire(key, sagaProperties.getLogTtl()))
+        .then(redisTemplate.opsForSet().add(ACTIVE_KEY, saga.getSagaId()))
+        .then();
+  }
+
+  /**
+   * Store the data a step is about to delete, which its compensation restores
+   */
+  public Mono<Void> saveSnapshot(UserDeletionSaga saga, SagaStep step) {
+    Map<String, String> fields = new HashMap<>();
+    fields.put(UPDATED_AT, Instant.now().toString());
+    if (step == SagaStep.USER && saga.getUserData() != null) {
+      fields.put(USER_DATA, toJson(saga.getUserData()));
+    }
+    if (step == SagaStep.AUTH && saga.getAuthData() != null) {
+      fields.put(AUTH_DATA, toJson(saga.getAuthData()));
+    }
+    return redisTemplate.opsForHash().putAll(key(saga.getSagaId()), fields).then();
+  }
+
+  /**
+   * Store the status of a step
+   */
+  public Mono<Void> updateStep(UserDeletionSaga saga, SagaStep step, SagaStepStatus status) {
+    return redisTemplate.opsForHash().putAll(key(saga.getSagaId()), Map.of(
+            STEP_PREFIX + step, status.name(),
+            UPDATED_AT, Instant.now().toString()))
+        .then();
+  }
+
+  /**
+   * Store the state of the saga
+   */
+  public Mono<Void> updateState(UserDeletionSaga saga) {
+    return redisTemplate.opsForHash().putAll(key(saga.getSagaId()), Map.of(
+            STATE, saga.getState().name(),
+            UPDATED_AT, Instant.now().toString()))
+        .then();
+  }
+
+  /**
+   * Remove a finished saga
+   */
+  public Mono<Void> complete(String sagaId) {
+    return redisTemplate.delete(key(sagaId))
+        .then(redisTemplate.opsForSet().remove(ACTIVE_KEY, sagaId))
+        .then();
+  }
+
+  /**
+   * Find all sagas that have not finished yet
+   */
+  public Flux<UserDeletionSaga> findUnfinished() {
+    return redisTemplate.opsForSet().members(ACTIVE_KEY)
+        .flatMap(sagaId -> redisTemplate.<String, String>opsForHash().entries(key(sagaId))
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .flatMap(fields -> {
+              if (fields.isEmpty()) {
+                return redisTemplate.opsForSet().remove(ACTIVE_KEY, sagaId).then(Mono.empty());
+              }
+              return Mono.just(fromFields(sagaId, fields));
+            }));
+  }
+
+  private UserDeletionSaga fromFields(String sagaId, Map<String, String> fields) {
+    UserDeletionSaga saga = new UserDeletionSaga(sagaId, fields.get(USER_ID));
+    saga.setState(SagaState.valueOf(fields.get(STATE)));
+    saga.setUpdatedAt(Instant.parse(fields.get(UPDATED_AT)));
+    for (SagaStep step : SagaStep.values()) {
+      String status = fields.get(STEP_PREFIX + step);
+      if (status != null) {
+        saga.getSteps().put(step, SagaStepStatus.valueOf(status));
+      }
+    }
+    if (fields.containsKey(USER_DATA)) {
+      saga.setUserData(fromJson(fields.get(USER_DATA), UserWithCardDTO.class));
+    }
+    if (fields.containsKey(AUTH_DATA)) {
+      saga.setAuthData(fromJson(fields.get(AUTH_DATA), UserCredentialsDataRecovery.class));
+    }
+    return saga;
+  }
+
+  private String key(String sagaId) {
+    return KEY_PREFIX + sagaId;
+  }
+
+  private String toJson(Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Failed to serialize saga data", ex);
+    }
+  }
+
+  private <T> T fromJson(String json, Class<T> type) {
+    try {
+      return objectMapper.readValue(json, type);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Failed to deserialize saga data", ex);
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.innowise.apigateway.saga;
+
+/**
+ * State of a saga as a whole
+ */
+public enum SagaState {
+  RUNNING,
+  COMPENSATING
+}
@@ -0,0 +1,10 @@
+package com.innowise.apigateway.saga;
+
+/**
+ * Steps of the user deletion saga, each one owned by a different service
+ */
+public enum SagaStep {
+  USER,
+  AUTH,
+  ORDERS
+}
@@ -0,0 +1,12 @@
+package com.innowise.apigateway.saga;
+
+/**
+ * State of a single saga step
+ */
+public enum SagaStepStatus {
+  PENDING,
+  DONE,
+  SKIPPED,
+  FAILED,
+  COMPENSATED
+}
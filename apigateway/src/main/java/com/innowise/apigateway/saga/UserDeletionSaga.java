@@ -0,0 +1,52 @@
+package com.innowise.apigateway.saga;
+
+import com.innowise.apigateway.dto.auth.recovery.UserCredentialsDataRecovery;
+import com.innowise.apigateway.dto.user.UserWithCardDTO;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * In-memory view of a user deletion saga and the data needed to compensate its steps
+ */
+@Getter
+@Setter
+public class UserDeletionSaga {
+
+  private final String sagaId;
+  private final String userId;
+  private final Map<SagaStep, SagaStepStatus> steps = new ConcurrentHashMap<>();
+  private volatile SagaState state = SagaState.RUNNING;
+  private volatile Instant updatedAt = Instant.now();
+  private volatile UserWithCardDTO userData;
+  private volatile UserCredentialsDataRecovery authData;
+
+  public UserDeletionSaga(String sagaId, String userId) {
+    this.sagaId = sagaId;
+    this.userId = userId;
+    for (SagaStep step : SagaStep.values()) {
+      steps.put(step, SagaStepStatus.PENDING);
+    }
+  }
+
+  public SagaStepStatus status(SagaStep step) {
+    return steps.get(step);
+  }
+
+  /**
+   * @return steps that have not completed, either never finished or failed
+   */
+  public Set<SagaStep> unfinishedSteps() {
+    Set<SagaStep> unfinished = EnumSet.noneOf(SagaStep.class);
+    steps.forEach((step, status) -> {
+      if (status == SagaStepStatus.PENDING || status == SagaStepStatus.FAILED) {
+        unfinished.add(step);
+      }
+    });
+    return unfinished;
+  }
+}
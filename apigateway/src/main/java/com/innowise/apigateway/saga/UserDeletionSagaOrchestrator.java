@@ -0,0 +1,276 @@
+package com.innowise.apigateway.saga;
+
+import com.innowise.apigateway.config.SagaProperties;
+import com.innowise.apigateway.dto.card.CardDTO;
+import com.innowise.apigateway.manager.RollbackManager;
+import com.innowise.apigateway.service.UserServiceClient;
+import com.innowise.apigateway.service.cache.ResponseCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Deletes a user from user, auth and order services as a saga. All steps are sent concurrently
+ * and every step outcome is written to the saga log in Redis before the saga moves on. The data
+ * a step deletes is read and written to the log before its delete is sent, so the step can be
+ * compensated even when its outcome was never recorded.
+ * <p>
+ * Order deletion cannot be compensated, so it acts as the pivot: if it fails, completed steps
+ * are compensated; once it succeeded, failed steps are retried until the deletion completes.
+ * Sagas left unfinished by a crashed gateway are picked up from the log and finished the same
+ * way.
+ */
+@Slf4j
+@Component
+public class UserDeletionSagaOrchestrator {
+
+  private final UserServiceClient userClient;
+  private final RollbackManager rollbackManager;
+  private final SagaLogRepository sagaLog;
+  private final SagaProperties sagaProperties;
+  private final ResponseCache responseCache;
+  private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+  private Disposable recoveryTask;
+
+  public UserDeletionSagaOrchestrator(UserServiceClient userClient,
+      RollbackManager rollbackManager, SagaLogRepository sagaLog, SagaProperties sagaProperties,
+      ResponseCache responseCache) {
+    this.userClient = userClient;
+    this.rollbackManager = rollbackManager;
+    this.sagaLog = sagaLog;
+    this.sagaProperties = sagaProperties;
+    this.responseCache = responseCache;
+  }
+
+  @PostConstruct
+  public void startRecovery() {
+    recoveryTask = Flux.interval(Duration.ZERO, sagaProperties.getRecoveryInterval())
+        .concatMap(tick -> recoverUnfinished()
+            .onErrorResume(error -> {
+              log.error("API Gateway: Saga recovery failed: {}", error.getMessage());
+              return Mono.empty();
+            }))
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void stopRecovery() {
+    if (recoveryTask != null) {
+      recoveryTask.dispose();
+    }
+  }
+
+  /**
+   * Delete a user from all services
+   */
+  public Mono<Void> deleteUser(String userId) {
+    UserDeletionSaga saga = new UserDeletionSaga(UUID.randomUUID().toString(), userId);
+    log.info("API Gateway: Starting user deletion saga {} for user {}", saga.getSagaId(), userId);
+
+    return sagaLog.create(saga)
+        .then(Mono.fromRunnable(() -> inFlight.add(saga.getSagaId())))
+        .then(runSteps(saga, EnumSet.allOf(SagaStep.class), false))
+        .then(Mono.defer(() -> {
+          if (saga.status(SagaStep.ORDERS) == SagaStepStatus.FAILED) {
+            return compensate(saga)
+                .then(Mono.error(new RuntimeException("Deletion failed in order service")));
+          }
+          return completeForward(saga);
+        }))
+        .doFinally(signal -> inFlight.remove(saga.getSagaId()));
+  }
+
+  private Mono<Void> recoverUnfinished() {
+    Instant staleBefore = Instant.now().minus(sagaProperties.getStaleAfter());
+
+    return sagaLog.findUnfinished()
+        .filter(saga -> saga.getUpdatedAt().isBefore(staleBefore))
+        .filter(saga -> inFlight.add(saga.getSagaId()))
+        .concatMap(saga -> {
+          log.warn("API Gateway: Recovering saga {} for user {} in state {}",
+              saga.getSagaId(), saga.getUserId(), saga.getState());
+          Mono<Void> recovery = saga.getState() == SagaState.COMPENSATING
+              ? compensate(saga)
+              : completeForward(saga);
+          return recovery
+              .onErrorResume(error -> Mono.empty())
+              .doFinally(signal -> inFlight.remove(saga.getSagaId()));
+        })
+        .then();
+  }
+
+  /**
+   * Retries unfinished steps and removes the saga once every step is done, dropping the cached
+   * responses of the user, its cards and its orders. The saga stays in the log if a step still
+   * fails, so it is retried by recovery.
+   */
+  private Mono<Void> completeForward(UserDeletionSaga saga) {
+    Set<SagaStep> unfinished = saga.unfinishedSteps();
+    Mono<Void> retries = unfinished.isEmpty()
+        ? Mono.empty()
+        : runSteps(saga, unfinished, true);
+
+    return retries.then(Mono.defer(() -> {
+      if (!saga.unfinishedSteps().isEmpty()) {
+        log.error("API Gateway: Saga {} incomplete, steps {} will be retried",
+            saga.getSagaId(), saga.unfinishedSteps());
+        return Mono.error(new RuntimeException("User deletion incomplete, will be retried"));
+      }
+
+      return sagaLog.complete(saga.getSagaId())
+          .then(Mono.defer(() -> {
+            if (saga.status(SagaStep.USER) == SagaStepStatus.SKIPPED
+                && saga.status(SagaStep.AUTH) == SagaStepStatus.SKIPPED) {
+              return Mono.error(new RuntimeException("User not found: " + saga.getUserId()));
+            }
+            return responseCache.invalidateUser(saga.getUserId(), cardIds(saga))
+                .doOnSuccess(done -> log.info(
+                    "API Gateway: User {} fully deleted from all services", saga.getUserId()));
+          }));
+    }));
+  }
+
+  /**
+   * Restores the steps that already deleted data. The saga stays in the log if a compensation
+   * fails, so it is retried by recovery.
+   */
+  private Mono<Void> compensate(UserDeletionSaga saga) {
+    log.error("API Gateway: Compensating deletion saga {} for user {}", saga.getSagaId(),
+        saga.getUserId());
+    saga.setState(SagaState.COMPENSATING);
+
+    String userId = saga.getUserId();
+    List<Mono<Void>> compensations = new ArrayList<>();
+    if (saga.getAuthData() != null) {
+      compensations.add(compensateStep(saga, SagaStep.AUTH,
+          userClient.getUserCredentialsInAuthService(userId),
+          rollbackManager.rollbackAuthServiceDeletion(saga.getAuthData())));
+    }
+    if (saga.getUserData() != null) {
+      compensations.add(compensateStep(saga, SagaStep.USER,
+          userClient.getUserWithCardsInUserService(userId),
+          rollbackManager.rollbackUserDeletion(userId, saga.getUserData())
+              .then(rollbackManager.rollbackCardDeletion(userId, saga.getUserData()))));
+    }
+
+    return sagaLog.updateState(saga)
+        .then(Mono.when(compensations))
+        .then(sagaLog.complete(saga.getSagaId()))
+        .doOnError(error -> log.error(
+            "API Gateway: Compensation of saga {} failed, will be retried: {}",
+            saga.getSagaId(), error.getMessage()));
+  }
+
+  /**
+   * Restores a step from its snapshot. A step whose delete failed or never reported back may
+   * still have deleted the data, so it is restored only if the lookup no longer finds it.
+   */
+  private Mono<Void> compensateStep(UserDeletionSaga saga, SagaStep step, Mono<?> lookup,
+      Mono<?> restore) {
+    SagaStepStatus status = saga.status(step);
+    if (status == SagaStepStatus.SKIPPED || status == SagaStepStatus.COMPENSATED) {
+      return Mono.empty();
+    }
+
+    Mono<Boolean> deleted = status == SagaStepStatus.DONE
+        ? Mono.just(true)
+        : lookup.then(Mono.just(false)).onErrorResume(this::isNotFound, error -> Mono.just(true));
+    return deleted
+        .flatMap(gone -> gone ? restore.then() : Mono.<Void>empty())
+        .then(markStep(saga, step, SagaStepStatus.COMPENSATED));
+  }
+
+  /**
+   * Runs the given steps concurrently and records each outcome in the saga log
+   */
+  private Mono<Void> runSteps(UserDeletionSaga saga, Set<SagaStep> steps, boolean retry) {
+    return Flux.fromIterable(steps)
+        .flatMap(step -> runStep(saga, step, retry))
+        .then();
+  }
+
+  private Mono<Void> runStep(UserDeletionSaga saga, SagaStep step, boolean retry) {
+    Mono<Void> call = Mono.defer(() -> callStep(saga, step));
+    if (retry) {
+      call = call.retryWhen(Retry.backoff(sagaProperties.getStepRetries(), Duration.ofMillis(200))
+          .filter(error -> !isNotFound(error))
+          .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    return call
+        .then(Mono.just(SagaStepStatus.DONE))
+        .onErrorResume(error -> {
+          if (isNotFound(error)) {
+            return Mono.just(SagaStepStatus.SKIPPED);
+          }
+          log.error("API Gateway: Saga {} step {} failed: {}", saga.getSagaId(), step,
+              error.getMessage());
+          return Mono.just(SagaStepStatus.FAILED);
+        })
+        .flatMap(status -> markStep(saga, step, status));
+  }
+
+  private Mono<Void> callStep(UserDeletionSaga saga, SagaStep step) {
+    String userId = saga.getUserId();
+    return switch (step) {
+      case USER -> snapshot(saga, step, saga.getUserData(),
+          userClient.getUserWithCardsInUserService(userId), saga::setUserData)
+          .then(userClient.deleteUserInUserService(userId))
+          .then();
+      case AUTH -> snapshot(saga, step, saga.getAuthData(),
+          userClient.getUserCredentialsInAuthService(userId), saga::setAuthData)
+          .then(userClient.deleteUserInAuthService(userId))
+          .then();
+      case ORDERS -> userClient.deleteUserOrdersInOrderService(userId);
+    };
+  }
+
+  /**
+   * Reads the data a step deletes and writes it to the saga log. A snapshot taken by an earlier
+   * attempt is kept, as the data may already be gone.
+   */
+  private <T> Mono<Void> snapshot(UserDeletionSaga saga, SagaStep step, T taken, Mono<T> lookup,
+      Consumer<T> store) {
+    if (taken != null) {
+      return Mono.empty();
+    }
+    return lookup
+        .doOnNext(store)
+        .then(Mono.defer(() -> sagaLog.saveSnapshot(saga, step)));
+  }
+
+  private Mono<Void> markStep(UserDeletionSaga saga, SagaStep step, SagaStepStatus status) {
+    saga.getSteps().put(step, status);
+    return sagaLog.updateStep(saga, step, status);
+  }
+
+  private List<Long> cardIds(UserDeletionSaga saga) {
+    if (saga.getUserData() == null) {
+      return List.of();
+    }
+    return saga.getUserData().cardDTOList().stream()
+        .map(CardDTO::id)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  private boolean isNotFound(Throwable error) {
+    return error instanceof WebClientResponseException.NotFound;
+  }
+}
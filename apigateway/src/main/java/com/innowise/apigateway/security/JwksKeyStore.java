@@ -0,0 +1,144 @@
+package com.innowise.apigateway.security;
+
+import com.innowise.apigateway.config.JwtProperties;
+import com.innowise.apigateway.config.WebClientConfig;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps the public keys published by authentication-service in memory so tokens can be verified
+ * without calling it. Keys are refreshed periodically, and a token that references an unknown key
+ * waits for a throttled refetch so a newly rotated key is accepted on its first use.
+ */
+@Slf4j
+@Component
+public class JwksKeyStore {
+
+  private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+  private final WebClient webClient;
+  private final JwtProperties jwtProperties;
+  private final AtomicReference<Instant> lastRefresh = new AtomicReference<>(Instant.EPOCH);
+  private final AtomicReference<Mono<Void>> pendingRefresh = new AtomicReference<>();
+  private volatile Map<String, PublicKey> keys = Map.of();
+  private Disposable refreshTask;
+
+  public JwksKeyStore(@Qualifier(WebClientConfig.AUTH_SERVICE) WebClient webClient,
+      JwtProperties jwtProperties) {
+    this.webClient = webClient;
+    this.jwtProperties = jwtProperties;
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!isEnabled()) {
+      return;
+    }
+    Duration refreshInterval = jwtProperties.getValidation().getJwksRefreshInterval();
+    refreshTask = Flux.interval(Duration.ZERO, refreshInterval)
+        .concatMap(tick -> fetchKeys())
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (refreshTask != null) {
+      refreshTask.dispose();
+    }
+  }
+
+  /**
+   * @return true if a JWKS uri is configured
+   */
+  public boolean isEnabled() {
+    JwtProperties.Validation validation = jwtProperties.getValidation();
+    return validation.isLocal() && StringUtils.hasText(validation.getJwksUri());
+  }
+
+  /**
+   * Finds a public key by id
+   *
+   * @param kid key id from the token header
+   * @return the public key or null if it is not known
+   */
+  public PublicKey find(String kid) {
+    return keys.get(kid);
+  }
+
+  /**
+   * Refetches the JWKS for a key id that is not known yet. Concurrent callers join the same
+   * refetch, and a new one starts at most once per {@link #MIN_REFRESH_INTERVAL}, so forged key
+   * ids cannot flood authentication-service.
+   *
+   * @param kid key id from the token header
+   * @return true if the key is known once the refetch completed
+   */
+  public Mono<Boolean> refreshForUnknownKey(String kid) {
+    if (!isEnabled()) {
+      return Mono.just(false);
+    }
+
+    return Mono.defer(() -> {
+      Mono<Void> refresh = pendingRefresh.get();
+      if (refresh == null) {
+        Instant previous = lastRefresh.get();
+        Instant now = Instant.now();
+        if (previous.plus(MIN_REFRESH_INTERVAL).isAfter(now)
+            || !lastRefresh.compareAndSet(previous, now)) {
+          return Mono.just(keys.containsKey(kid));
+        }
+        refresh = fetchKeys()
+            .doFinally(signal -> pendingRefresh.set(null))
+            .cache();
+        pendingRefresh.set(refresh);
+      }
+      return refresh.then(Mono.fromSupplier(() -> keys.containsKey(kid)));
+    });
+  }
+
+  private Mono<Void> fetchKeys() {
+    lastRefresh.set(Instant.now());
+
+    return webClient.get()
+        .uri(jwtProperties.getValidation().getJwksUri())
+        .retrieve()
+        .bodyToMono(String.class)
+        .map(json -> Jwks.setParser().ignoreUnsupported(true).build().parse(json))
+        .doOnNext(this::replaceKeys)
+        .doOnError(error -> log.error("GATEWAY: Failed to fetch JWKS: {}", error.getMessage()))
+        .onErrorResume(error -> Mono.empty())
+        .then();
+  }
+
+  private void replaceKeys(JwkSet jwkSet) {
+    keys = jwkSet.getKeys().stream()
+        .filter(jwk -> jwk.getId() != null)
+        .filter(jwk -> jwk.toKey() instanceof PublicKey)
+        .collect(Collectors.toUnmodifiableMap(Jwk::getId, this::toPublicKey,
+            (first, second) -> first));
+    log.info("GATEWAY: Loaded {} public keys from JWKS", keys.size());
+  }
+
+  private PublicKey toPublicKey(Jwk<?> jwk) {
+    Key key = jwk.toKey();
+    return (PublicKey) key;
+  }
+}
@@ -0,0 +1,216 @@
+package com.innowise.apigateway.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.innowise.apigateway.config.JwtProperties;
+import com.innowise.apigateway.dto.auth.token.TokenValidationResponse;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import javax.crypto.SecretKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+/**
+ * Verifies JWT tokens inside the gateway using public keys from the authentication-service JWKS
+ * or the shared secret. Tokens that passed verification are cached by their SHA-256 hash until
+ * they expire.
+ */
+@Slf4j
+@Component
+public class JwtTokenVerifier {
+
+  private static final String AUTHORITIES_CLAIM = "authorities";
+  private static final TokenValidationResponse INVALID_TOKEN =
+      new TokenValidationResponse(false, null, null);
+
+  private final JwksKeyStore jwksKeyStore;
+  private final SecretKey hmacKey;
+  private final JwtParser jwtParser;
+  private final Cache<String, VerifiedToken> verifiedTokens;
+
+  public JwtTokenVerifier(JwtProperties jwtProperties, JwksKeyStore jwksKeyStore) {
+    JwtProperties.Validation validation = jwtProperties.getValidation();
+    boolean hasSecret = StringUtils.hasText(jwtProperties.getSecret());
+
+    if (validation.isLocal() && !hasSecret && !jwksKeyStore.isEnabled()) {
+      throw new IllegalStateException(
+          "jwt.secret or jwt.validation.jwks-uri must be set for local token validation");
+    }
+
+    this.jwksKeyStore = jwksKeyStore;
+    this.hmacKey = hasSecret
+        ? Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8))
+        : null;
+    this.jwtParser = validation.isLocal()
+        ? Jwts.parser().keyLocator(new VerificationKeyLocator()).build()
+        : null;
+
+    this.verifiedTokens = Caffeine.newBuilder()
+        .maximumSize(validation.getCacheMaxSize())
+        .expireAfter(new ExpireAtTokenExpiration())
+        .build();
+  }
+
+  /**
+   * Verifies signature, expiration and authorities of an access token. A token signed with a key
+   * that is not known yet is verified again once the JWKS was refetched.
+   *
+   * @param token the JWT token to verify
+   * @return validation response with username and authorities if the token is valid
+   */
+  public Mono<TokenValidationResponse> verify(String token) {
+    try {
+      return Mono.just(verifyLocally(token));
+    } catch (UnknownSigningKeyException ex) {
+      return jwksKeyStore.refreshForUnknownKey(ex.getKid())
+          .map(known -> known ? verifyWithKnownKeys(token) : INVALID_TOKEN);
+    }
+  }
+
+  private TokenValidationResponse verifyWithKnownKeys(String token) {
+    try {
+      return verifyLocally(token);
+    } catch (UnknownSigningKeyException ex) {
+      return INVALID_TOKEN;
+    }
+  }
+
+  private TokenValidationResponse verifyLocally(String token) {
+    if (jwtParser == null || !StringUtils.hasText(token)) {
+      return INVALID_TOKEN;
+    }
+
+    String tokenHash = hash(token);
+    VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+    if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+      return cached.response();
+    }
+
+    try {
+      Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+      Date expiration = claims.getExpiration();
+      List<String> authorities = extractAuthorities(claims);
+
+      if (expiration == null || authorities.isEmpty()) {
+        log.warn("GATEWAY: Token has no expiration or authorities");
+        return INVALID_TOKEN;
+      }
+
+      TokenValidationResponse response =
+          new TokenValidationResponse(true, claims.getSubject(), authorities);
+      verifiedTokens.put(tokenHash, new VerifiedToken(response, expiration.toInstant()));
+      return response;
+
+    } catch (UnknownSigningKeyException ex) {
+      log.warn("GATEWAY: {}", ex.getMessage());
+      throw ex;
+    } catch (JwtException | IllegalArgumentException ex) {
+      log.warn("GATEWAY: Local token validation failed: {}", ex.getMessage());
+      return INVALID_TOKEN;
+    }
+  }
+
+  private List<String> extractAuthorities(Claims claims) {
+    Object authorities = claims.get(AUTHORITIES_CLAIM);
+    if (!(authorities instanceof List<?> values)) {
+      return List.of();
+    }
+    return values.stream()
+        .filter(String.class::isInstance)
+        .map(String.class::cast)
+        .toList();
+  }
+
+  private String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not available", ex);
+    }
+  }
+
+  /**
+   * Resolves public keys by the {@code kid} header, tokens without a key id use the shared secret
+   */
+  private class VerificationKeyLocator extends LocatorAdapter<Key> {
+
+    @Override
+    protected Key locate(JwsHeader header) {
+      String kid = header.getKeyId();
+      if (kid != null) {
+        PublicKey publicKey = jwksKeyStore.find(kid);
+        if (publicKey == null) {
+          throw new UnknownSigningKeyException(kid);
+        }
+        return publicKey;
+      }
+      if (hmacKey == null) {
+        throw new JwtException("Token has no key id");
+      }
+      return hmacKey;
+    }
+  }
+
+  private record VerifiedToken(TokenValidationResponse response, Instant expiresAt) {
+
+  }
+
+  /**
+   * Thrown when a token references a key id that is not in the loaded JWKS
+   */
+  private static class UnknownSigningKeyException extends JwtException {
+
+    private final String kid;
+
+    UnknownSigningKeyException(String kid) {
+      super("Unknown signing key id: " + kid);
+      this.kid = kid;
+    }
+
+    String getKid() {
+      return kid;
+    }
+  }
+
+  /**
+   * Evicts a cached token exactly at its {@code exp} claim
+   */
+  private static class ExpireAtTokenExpiration implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.innowise.apigateway.service;
 
 import com.innowise.apigateway.config.ServiceConfig;
+import com.innowise.apigateway.config.WebClientConfig;
 import com.innowise.apigateway.dto.auth.login.LoginRequest;
 import com.innowise.apigateway.dto.auth.login.LoginResponse;
 import com.innowise.apigateway.dto.auth.registration.AuthCreateRequest;
@@ -10,8 +11,10 @@ import com.innowise.apigateway.dto.auth.token.RefreshTokenRequest;
 import com.innowise.apigateway.dto.auth.token.TokenValidationResponse;
 import com.innowise.apigateway.dto.user.registration.UserCreateRequest;
 import com.innowise.apigateway.dto.user.registration.UserCreateResponse;
+import com.innowise.apigateway.service.hedging.RequestHedger;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -21,12 +24,17 @@ import reactor.core.publisher.Mono;
 @Component
 public class AuthServiceClient {
 
+  private static final String VALIDATE_TOKEN = "validate-token";
+
   private final WebClient webClient;
   private final ServiceConfig serviceConfig;
+  private final RequestHedger requestHedger;
 
-  public AuthServiceClient(WebClient webClient, ServiceConfig serviceConfig) {
+  public AuthServiceClient(@Qualifier(WebClientConfig.AUTH_SERVICE) WebClient webClient,
+      ServiceConfig serviceConfig, RequestHedger requestHedger) {
     this.webClient = webClient;
     this.serviceConfig = serviceConfig;
+    this.requestHedger = requestHedger;
   }
 
 
@@ -46,10 +54,10 @@ public class AuthServiceClient {
         token.substring(0, Math.min(10, token.length())) + "..." : "null");
     String fullUrl = serviceConfig.getAuthServiceUrl() + "/api/v1/auth/validate?token=" + token;
 
-    return webClient.post()
-        .uri(fullUrl)
-        .retrieve()
-        .bodyToMono(TokenValidationResponse.class)
+    return requestHedger.hedge(VALIDATE_TOKEN, () -> webClient.post()
+            .uri(fullUrl)
+            .retrieve()
+            .bodyToMono(TokenValidationResponse.class))
         .doOnNext(response ->
             log.info("GATEWAY: Auth service response - valid: {}", response.valid()))
         .doOnError(error ->
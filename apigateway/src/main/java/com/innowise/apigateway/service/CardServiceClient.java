@@ -1,12 +1,18 @@
 package com.innowise.apigateway.service;
 
+import com.innowise.apigateway.config.BatchingProperties;
 import com.innowise.apigateway.config.ServiceConfig;
+import com.innowise.apigateway.config.WebClientConfig;
+import com.innowise.apigateway.dto.PageResponse;
 import com.innowise.apigateway.dto.card.CardDTO;
 import com.innowise.apigateway.dto.card.CreateCardRequest;
 import com.innowise.apigateway.dto.card.UpdateCardRequest;
+import com.innowise.apigateway.service.batch.BatchLoader;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -19,10 +25,18 @@ public class CardServiceClient {
 
   private final WebClient webClient;
   private final ServiceConfig serviceConfig;
+  private final BatchingProperties batchingProperties;
+  private final BatchLoader<Long, CardDTO> cardLoader;
 
-  public CardServiceClient(WebClient webClient, ServiceConfig serviceConfig) {
+  public CardServiceClient(@Qualifier(WebClientConfig.CARD_SERVICE) WebClient webClient,
+      ServiceConfig serviceConfig, BatchingProperties batchingProperties) {
     this.webClient = webClient;
     this.serviceConfig = serviceConfig;
+    this.batchingProperties = batchingProperties;
+    this.cardLoader = new BatchLoader<>("Card", ids -> getCardsByIdsInCardService(ids)
+        .map(list -> list.stream().collect(
+            Collectors.toMap(CardDTO::id, Function.identity(), (first, second) -> first))),
+        this::fetchCardById, batchingProperties.getWindow(), batchingProperties.getMaxBatchSize());
   }
 
   public Mono<Void> deleteCardInCardService(Long id) {
@@ -59,13 +73,12 @@ public class CardServiceClient {
   }
 
   public Mono<List<CardDTO>> getCardsByIdsInCardService(List<Long> ids) {
-    String fullUrl = serviceConfig.getCardServiceUrl() + "/api/v1/cards/batch?ids=" +
-        ids.stream()
-            .map(String::valueOf)
-            .collect(Collectors.joining(","));
-
     return webClient.get()
-        .uri(fullUrl)
+        .uri(serviceConfig.getCardServiceUrl() + "/api/v1/cards/batch", uriBuilder -> uriBuilder
+            .queryParam("ids", "{ids}")
+            .build(ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","))))
         .retrieve()
         .bodyToMono(new ParameterizedTypeReference<List<CardDTO>>() {
         })
@@ -74,12 +87,19 @@ public class CardServiceClient {
   }
 
   public Mono<CardDTO> getCardByIdInCardService(Long id) {
+    if (batchingProperties.isEnabled()) {
+      return cardLoader.load(id);
+    }
+    return fetchCardById(id)
+        .doOnError(error ->
+            log.error("Failed to get card by id in CardService: {}", error.getMessage()));
+  }
+
+  private Mono<CardDTO> fetchCardById(Long id) {
     return webClient.get()
         .uri(serviceConfig.getCardServiceUrl() + "/api/v1/cards/{id}", id)
         .retrieve()
-        .bodyToMono(CardDTO.class)
-        .doOnError(error ->
-            log.error("Failed to get card by id in CardService: {}", error.getMessage()));
+        .bodyToMono(CardDTO.class);
   }
 
   public Mono<List<CardDTO>> getCardByUserIdInCardService(String id) {
@@ -91,4 +111,18 @@ public class CardServiceClient {
         .doOnError(error ->
             log.error("Failed to get cards by userId in CardService: {}", error.getMessage()));
   }
+
+  public Mono<PageResponse<CardDTO>> getCardsPageByUserIdInCardService(String id, String after,
+      int limit) {
+    return webClient.get()
+        .uri(serviceConfig.getCardServiceUrl()
+                + "/api/v1/cards/user/{id}?after={after}&limit={limit}",
+            id, after != null ? after : "", limit)
+        .retrieve()
+        .bodyToMono(new ParameterizedTypeReference<PageResponse<CardDTO>>() {
+        })
+        .doOnError(error ->
+            log.error("Failed to get cards page by userId in CardService: {}",
+                error.getMessage()));
+  }
 }
@@ -1,16 +1,24 @@
 package com.innowise.apigateway.service;
 
+import com.innowise.apigateway.config.BatchingProperties;
 import com.innowise.apigateway.config.ServiceConfig;
+import com.innowise.apigateway.config.WebClientConfig;
+import com.innowise.apigateway.dto.PageResponse;
+import com.innowise.apigateway.dto.order.BulkOrderResult;
 import com.innowise.apigateway.dto.order.CreateOrderRequest;
 import com.innowise.apigateway.dto.order.OrderDTO;
 import com.innowise.apigateway.enums.OrderStatus;
+import com.innowise.apigateway.service.batch.BatchLoader;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -19,13 +27,21 @@ public class OrderServiceClient {
 
   private final WebClient webClient;
   private final ServiceConfig serviceConfig;
+  private final BatchingProperties batchingProperties;
+  private final BatchLoader<Long, OrderDTO> orderLoader;
 
-  public OrderServiceClient(WebClient webClient, ServiceConfig serviceConfig) {
+  public OrderServiceClient(@Qualifier(WebClientConfig.ORDER_SERVICE) WebClient webClient,
+      ServiceConfig serviceConfig, BatchingProperties batchingProperties) {
     this.webClient = webClient;
     this.serviceConfig = serviceConfig;
+    this.batchingProperties = batchingProperties;
+    this.orderLoader = new BatchLoader<>("Order", ids -> getOrdersByIdsInOrderService(ids)
+        .map(list -> list.stream().collect(
+            Collectors.toMap(OrderDTO::id, Function.identity(), (first, second) -> first))),
+        this::fetchOrderById, batchingProperties.getWindow(), batchingProperties.getMaxBatchSize());
   }
 
-  public Mono<List<OrderDTO>> getOrdersByStatusesInOrderService(List<OrderStatus> statuses) {
+  public Flux<OrderDTO> getOrdersByStatusesInOrderService(List<OrderStatus> statuses) {
     String statusParams = statuses.stream()
         .map(Enum::name)
         .collect(Collectors.joining(","));
@@ -35,13 +51,31 @@ public class OrderServiceClient {
 
     return webClient.get()
         .uri(fullUrl)
+        .accept(MediaType.APPLICATION_NDJSON)
         .retrieve()
-        .bodyToMono(new ParameterizedTypeReference<List<OrderDTO>>() {
-        })
+        .bodyToFlux(OrderDTO.class)
         .doOnError(error ->
             log.error("Failed to get orders by statuses in OrderService: {}", error.getMessage()));
   }
 
+  public Mono<PageResponse<OrderDTO>> getOrdersPageByStatusesInOrderService(
+      List<OrderStatus> statuses, String after, int limit) {
+    String statusParams = statuses.stream()
+        .map(Enum::name)
+        .collect(Collectors.joining(","));
+
+    return webClient.get()
+        .uri(serviceConfig.getOrderServiceUrl()
+                + "/api/v1/orders/status?statuses={statuses}&after={after}&limit={limit}",
+            statusParams, after != null ? after : "", limit)
+        .retrieve()
+        .bodyToMono(new ParameterizedTypeReference<PageResponse<OrderDTO>>() {
+        })
+        .doOnError(error ->
+            log.error("Failed to get orders page by statuses in OrderService: {}",
+                error.getMessage()));
+  }
+
   public Mono<Void> deleteOrderInCardService(Long id) {
     return webClient.delete()
         .uri(serviceConfig.getOrderServiceUrl() + "/api/v1/orders/{id}", id)
@@ -62,14 +96,23 @@ public class OrderServiceClient {
             log.error("Failed to update orders by id in OrderService: {}", error.getMessage()));
   }
 
-  public Mono<List<OrderDTO>> getOrdersByIdsInOrderService(List<Long> ids) {
-    String fullUrl = serviceConfig.getOrderServiceUrl() + "/api/v1/orders/batch?ids=" +
-        ids.stream()
-            .map(String::valueOf)
-            .collect(Collectors.joining(","));
+  public Mono<List<OrderDTO>> getOrdersByUserIdInOrderService(String userId) {
+    return webClient.get()
+        .uri(serviceConfig.getOrderServiceUrl() + "/api/v1/orders/users/internal/{id}", userId)
+        .retrieve()
+        .bodyToMono(new ParameterizedTypeReference<List<OrderDTO>>() {
+        })
+        .doOnError(error ->
+            log.error("Failed to get orders by userId in OrderService: {}", error.getMessage()));
+  }
 
+  public Mono<List<OrderDTO>> getOrdersByIdsInOrderService(List<Long> ids) {
     return webClient.get()
-        .uri(fullUrl)
+        .uri(serviceConfig.getOrderServiceUrl() + "/api/v1/orders/batch", uriBuilder -> uriBuilder
+            .queryParam("ids", "{ids}")
+            .build(ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","))))
         .retrieve()
         .bodyToMono(new ParameterizedTypeReference<List<OrderDTO>>() {
         })
@@ -78,15 +121,22 @@ public class OrderServiceClient {
   }
 
   public Mono<OrderDTO> getOrderByIdInOrderService(Long id) {
-    return webClient.get()
-        .uri(serviceConfig.getOrderServiceUrl() + "/api/v1/orders/{id}", id)
-        .retrieve()
-        .bodyToMono(OrderDTO.class)
+    if (batchingProperties.isEnabled()) {
+      return orderLoader.load(id);
+    }
+    return fetchOrderById(id)
         .doOnError(
             error -> log.error("Failed to get order by id in OrderService: {}",
                 error.getMessage()));
   }
 
+  private Mono<OrderDTO> fetchOrderById(Long id) {
+    return webClient.get()
+        .uri(serviceConfig.getOrderServiceUrl() + "/api/v1/orders/{id}", id)
+        .retrieve()
+        .bodyToMono(OrderDTO.class);
+  }
+
   public Mono<OrderDTO> createOrderInOrderService(CreateOrderRequest request) {
     return webClient.post()
         .uri(serviceConfig.getOrderServiceUrl() + "/api/v1/orders")
@@ -97,4 +147,17 @@ public class OrderServiceClient {
         .doOnError(
             error -> log.error("Failed to create order in OrderService: {}", error.getMessage()));
   }
+
+  public Mono<List<BulkOrderResult>> createOrdersInOrderService(
+      List<CreateOrderRequest> requests) {
+    return webClient.post()
+        .uri(serviceConfig.getOrderServiceUrl() + "/api/v1/orders/bulk")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(requests)
+        .retrieve()
+        .bodyToMono(new ParameterizedTypeReference<List<BulkOrderResult>>() {
+        })
+        .doOnError(
+            error -> log.error("Failed to create orders in OrderService: {}", error.getMessage()));
+  }
 }
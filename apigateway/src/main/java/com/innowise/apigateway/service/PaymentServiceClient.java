@@ -1,6 +1,8 @@
 package com.innowise.apigateway.service;
 
 import com.innowise.apigateway.config.ServiceConfig;
+import com.innowise.apigateway.config.WebClientConfig;
+import com.innowise.apigateway.dto.PageResponse;
 import com.innowise.apigateway.dto.payment.PaymentDTO;
 import com.innowise.apigateway.enums.PaymentStatus;
 import java.math.BigDecimal;
@@ -8,9 +10,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -20,21 +25,36 @@ public class PaymentServiceClient {
   private final WebClient webClient;
   private final ServiceConfig serviceConfig;
 
-  public PaymentServiceClient(WebClient webClient, ServiceConfig serviceConfig) {
+  public PaymentServiceClient(@Qualifier(WebClientConfig.PAYMENT_SERVICE) WebClient webClient,
+      ServiceConfig serviceConfig) {
     this.webClient = webClient;
     this.serviceConfig = serviceConfig;
   }
 
-  public Mono<List<PaymentDTO>> getPaymentByUserId(String userId) {
+  public Flux<PaymentDTO> getPaymentByUserId(String userId) {
     return webClient.get()
         .uri(serviceConfig.getPaymentServiceUrl() + "/api/v1/payments/user/{userId}", userId)
+        .accept(MediaType.APPLICATION_NDJSON)
         .retrieve()
-        .bodyToMono(new ParameterizedTypeReference<List<PaymentDTO>>() {
-        })
+        .bodyToFlux(PaymentDTO.class)
         .doOnError(error ->
             log.error("Failed to get payment by userId in PaymentService: {}", error.getMessage()));
   }
 
+  public Mono<PageResponse<PaymentDTO>> getPaymentsPageByUserId(String userId, String after,
+      int limit) {
+    return webClient.get()
+        .uri(serviceConfig.getPaymentServiceUrl()
+                + "/api/v1/payments/user/{userId}?after={after}&limit={limit}",
+            userId, after != null ? after : "", limit)
+        .retrieve()
+        .bodyToMono(new ParameterizedTypeReference<PageResponse<PaymentDTO>>() {
+        })
+        .doOnError(error ->
+            log.error("Failed to get payments page by userId in PaymentService: {}",
+                error.getMessage()));
+  }
+
   public Mono<List<PaymentDTO>> getPaymentByOrderId(Long orderId) {
     return webClient.get()
         .uri(serviceConfig.getPaymentServiceUrl() + "/api/v1/payments/order/{orderId}", orderId)
@@ -46,7 +66,7 @@ public class PaymentServiceClient {
                 error.getMessage()));
   }
 
-  public Mono<List<PaymentDTO>> getPaymentsByStatuses(List<PaymentStatus> statuses) {
+  public Flux<PaymentDTO> getPaymentsByStatuses(List<PaymentStatus> statuses) {
     String statusParams = statuses.stream()
         .map(Enum::name)
         .collect(Collectors.joining(","));
@@ -56,14 +76,32 @@ public class PaymentServiceClient {
 
     return webClient.get()
         .uri(fullUrl)
+        .accept(MediaType.APPLICATION_NDJSON)
         .retrieve()
-        .bodyToMono(new ParameterizedTypeReference<List<PaymentDTO>>() {
-        })
+        .bodyToFlux(PaymentDTO.class)
         .doOnError(error ->
             log.error("Failed to get payments by statuses in PaymentService: {}",
                 error.getMessage()));
   }
 
+  public Mono<PageResponse<PaymentDTO>> getPaymentsPageByStatuses(List<PaymentStatus> statuses,
+      String after, int limit) {
+    String statusParams = statuses.stream()
+        .map(Enum::name)
+        .collect(Collectors.joining(","));
+
+    return webClient.get()
+        .uri(serviceConfig.getPaymentServiceUrl()
+                + "/api/v1/payments/status?statuses={statuses}&after={after}&limit={limit}",
+            statusParams, after != null ? after : "", limit)
+        .retrieve()
+        .bodyToMono(new ParameterizedTypeReference<PageResponse<PaymentDTO>>() {
+        })
+        .doOnError(error ->
+            log.error("Failed to get payments page by statuses in PaymentService: {}",
+                error.getMessage()));
+  }
+
   public Mono<BigDecimal> getTotalSumOfPeriod(LocalDateTime start, LocalDateTime end) {
     String fullUrl = serviceConfig.getPaymentServiceUrl() +
         "/api/v1/payments/total?start=" + start + "&end=" + end;
@@ -1,6 +1,8 @@
 package com.innowise.apigateway.service;
 
+import com.innowise.apigateway.config.BatchingProperties;
 import com.innowise.apigateway.config.ServiceConfig;
+import com.innowise.apigateway.config.WebClientConfig;
 import com.innowise.apigateway.dto.auth.recovery.UserCredentialsDataRecovery;
 import com.innowise.apigateway.dto.auth.registration.RegistrationRequest;
 import com.innowise.apigateway.dto.user.UpdateUserRequest;
@@ -8,11 +10,16 @@ import com.innowise.apigateway.dto.user.UserDTO;
 import com.innowise.apigateway.dto.user.UserWithCardDTO;
 import com.innowise.apigateway.dto.user.registration.UserCreateRequest;
 import com.innowise.apigateway.dto.user.registration.UserCreateResponse;
+import com.innowise.apigateway.service.batch.BatchLoader;
+import com.innowise.apigateway.service.hedging.RequestHedger;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpStatusCode;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -22,12 +29,40 @@ import reactor.core.publisher.Mono;
 @Component
 public class UserServiceClient {
 
+  private static final String GET_USER_BY_ID = "user-by-id";
+
   private final WebClient webClient;
+  private final WebClient authWebClient;
+  private final WebClient orderWebClient;
   private final ServiceConfig serviceConfig;
-
-  public UserServiceClient(WebClient webClient, ServiceConfig serviceConfig) {
+  private final BatchingProperties batchingProperties;
+  private final RequestHedger requestHedger;
+  private final BatchLoader<String, UserDTO> userLoader;
+
+  public UserServiceClient(@Qualifier(WebClientConfig.USER_SERVICE) WebClient webClient,
+      @Qualifier(WebClientConfig.AUTH_SERVICE) WebClient authWebClient,
+      @Qualifier(WebClientConfig.ORDER_SERVICE) WebClient orderWebClient,
+      ServiceConfig serviceConfig, BatchingProperties batchingProperties,
+      RequestHedger requestHedger) {
     this.webClient = webClient;
+    this.authWebClient = authWebClient;
+    this.orderWebClient = orderWebClient;
     this.serviceConfig = serviceConfig;
+    this.batchingProperties = batchingProperties;
+    this.requestHedger = requestHedger;
+    this.userLoader = new BatchLoader<>("User", ids -> getUsersByIdsInUserService(ids)
+        .map(list -> list.stream().collect(
+            Collectors.toMap(UserDTO::id, Function.identity(), (first, second) -> first))),
+        this::fetchUserById, batchingProperties.getWindow(), batchingProperties.getMaxBatchSize());
+  }
+
+  public Mono<UserWithCardDTO> getUserWithCardsInUserService(String id) {
+    return webClient.get()
+        .uri(serviceConfig.getUserServiceUrl() + "/api/v1/users/internal/{id}", id)
+        .retrieve()
+        .bodyToMono(UserWithCardDTO.class)
+        .doOnError(error ->
+            log.error("Failed to get user with cards in UserService: {}", error.getMessage()));
   }
 
   public Mono<UserWithCardDTO> deleteUserInUserService(String id) {
@@ -64,20 +99,27 @@ public class UserServiceClient {
   }
 
   public Mono<UserDTO> getUserByIdInUserService(String id) {
+    if (batchingProperties.isEnabled()) {
+      return requestHedger.hedge(GET_USER_BY_ID, () -> userLoader.load(id),
+          () -> fetchUserById(id));
+    }
+    return requestHedger.hedge(GET_USER_BY_ID, () -> fetchUserById(id))
+        .doOnError(error ->
+            log.error("Failed to get user by id in UserService: {}", error.getMessage()));
+  }
+
+  private Mono<UserDTO> fetchUserById(String id) {
     return webClient.get()
         .uri(serviceConfig.getUserServiceUrl() + "/api/v1/users/{id}", id)
         .retrieve()
-        .bodyToMono(UserDTO.class)
-        .doOnError(error ->
-            log.error("Failed to get user by id in UserService: {}", error.getMessage()));
+        .bodyToMono(UserDTO.class);
   }
 
   public Mono<List<UserDTO>> getUsersByIdsInUserService(List<String> ids) {
-    String fullUrl =
-        serviceConfig.getUserServiceUrl() + "/api/v1/users/batch?ids=" + String.join(",", ids);
-
     return webClient.get()
-        .uri(fullUrl)
+        .uri(serviceConfig.getUserServiceUrl() + "/api/v1/users/batch", uriBuilder -> uriBuilder
+            .queryParam("ids", "{ids}")
+            .build(String.join(",", ids)))
         .retrieve()
         .bodyToMono(new ParameterizedTypeReference<List<UserDTO>>() {
         })
@@ -86,7 +128,7 @@ public class UserServiceClient {
   }
 
   public Mono<Void> deleteUserOrdersInOrderService(String id) {
-    return webClient.delete()
+    return orderWebClient.delete()
         .uri(serviceConfig.getOrderServiceUrl() + "/api/v1/orders/user/{id}", id)
         .retrieve()
         .bodyToMono(Void.class)
@@ -94,13 +136,22 @@ public class UserServiceClient {
             error -> log.error("API Gateway: Failed to delete orders for user {}", id, error));
   }
 
+  public Mono<UserCredentialsDataRecovery> getUserCredentialsInAuthService(String id) {
+    return authWebClient.get()
+        .uri(serviceConfig.getAuthServiceUrl() + "/api/v1/auth/internal/{id}", id)
+        .retrieve()
+        .bodyToMono(UserCredentialsDataRecovery.class)
+        .doOnError(error ->
+            log.error("Failed to get user credentials in AuthService: {}", error.getMessage()));
+  }
+
   public Mono<UserCredentialsDataRecovery> deleteUserInAuthService(String id) {
     log.info("API Gateway: Preparing to delete user from AuthService: {}", id);
 
-    return webClient.delete()
+    return authWebClient.delete()
         .uri(serviceConfig.getAuthServiceUrl() + "/api/v1/auth/internal/{id}", id)
         .retrieve()
-        .onStatus(HttpStatusCode::isError, response ->
+        .onStatus(status -> status.isError() && status != HttpStatus.NOT_FOUND, response ->
             Mono.error(new RuntimeException("Auth Service error: " + response.statusCode())))
         .bodyToMono(UserCredentialsDataRecovery.class)
         .doOnError(error ->
@@ -0,0 +1,134 @@
+package com.innowise.apigateway.service.batch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Collects concurrent single-key lookups and resolves them with one batch call. A batch is
+ * flushed when the window started by its first key elapses or when it reaches the maximum size.
+ * Concurrent lookups of the same key share one result. Keys missing from the batch response
+ * complete with a 404 error, as the single-key endpoint would. When a batch call fails, every
+ * key of it falls back to its own single-key call, so one failure does not fail all callers.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+@Slf4j
+public class BatchLoader<K, V> {
+
+  private final String name;
+  private final Function<List<K>, Mono<Map<K, V>>> batchFunction;
+  private final Function<K, Mono<V>> singleFunction;
+  private final Duration window;
+  private final int maxBatchSize;
+
+  private Map<K, Sinks.One<V>> pending = new LinkedHashMap<>();
+  private Disposable scheduledFlush;
+
+  public BatchLoader(String name, Function<List<K>, Mono<Map<K, V>>> batchFunction,
+      Function<K, Mono<V>> singleFunction, Duration window, int maxBatchSize) {
+    this.name = name;
+    this.batchFunction = batchFunction;
+    this.singleFunction = singleFunction;
+    this.window = window;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Load a value by key as part of the next batch
+   */
+  public Mono<V> load(K key) {
+    return Mono.defer(() -> {
+      Sinks.One<V> sink;
+      Map<K, Sinks.One<V>> batchToFlush = null;
+
+      synchronized (this) {
+        sink = pending.get(key);
+        if (sink == null) {
+          sink = Sinks.one();
+          pending.put(key, sink);
+
+          if (pending.size() >= maxBatchSize) {
+            batchToFlush = takePending();
+          } else if (pending.size() == 1) {
+            scheduledFlush = Schedulers.parallel()
+                .schedule(this::flushScheduled, window.toNanos(), TimeUnit.NANOSECONDS);
+          }
+        }
+      }
+
+      if (batchToFlush != null) {
+        dispatch(batchToFlush);
+      }
+      return sink.asMono();
+    });
+  }
+
+  private void flushScheduled() {
+    Map<K, Sinks.One<V>> batch;
+    synchronized (this) {
+      batch = takePending();
+    }
+    dispatch(batch);
+  }
+
+  private Map<K, Sinks.One<V>> takePending() {
+    Map<K, Sinks.One<V>> batch = pending;
+    pending = new LinkedHashMap<>();
+    if (scheduledFlush != null) {
+      scheduledFlush.dispose();
+      scheduledFlush = null;
+    }
+    return batch;
+  }
+
+  private void dispatch(Map<K, Sinks.One<V>> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    List<K> keys = new ArrayList<>(batch.keySet());
+    log.debug("API Gateway: {} batch of {} keys", name, keys.size());
+
+    batchFunction.apply(keys)
+        .onErrorResume(WebClientResponseException.NotFound.class, error -> Mono.just(Map.of()))
+        .defaultIfEmpty(Map.of())
+        .subscribe(
+            results -> batch.forEach((key, sink) -> {
+              V value = results.get(key);
+              if (value != null) {
+                sink.tryEmitValue(value);
+              } else {
+                sink.tryEmitError(notFound(key));
+              }
+            }),
+            error -> {
+              log.warn("API Gateway: {} batch of {} keys failed, loading keys one by one: {}",
+                  name, keys.size(), error.getMessage());
+              batch.forEach(this::loadSingle);
+            });
+  }
+
+  private void loadSingle(K key, Sinks.One<V> sink) {
+    singleFunction.apply(key)
+        .switchIfEmpty(Mono.error(() -> notFound(key)))
+        .subscribe(sink::tryEmitValue, sink::tryEmitError);
+  }
+
+  private WebClientResponseException notFound(K key) {
+    return WebClientResponseException.create(HttpStatus.NOT_FOUND.value(),
+        name + " not found: " + key, null, null, null);
+  }
+}
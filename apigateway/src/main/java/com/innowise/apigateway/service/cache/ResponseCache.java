@@ -0,0 +1,335 @@
+package com.innowise.apigateway.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.innowise.apigateway.config.ResponseCacheProperties;
+import com.innowise.apigateway.filter.JwtRouterFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Two-tier cache of GET responses for single resources: a size-bounded in-process cache in front
+ * of Redis. Entries are kept per principal, because a response may depend on who asked for it.
+ * Writes routed through the gateway invalidate a resource in Redis and, through a Redis channel,
+ * in the in-process cache of every gateway instance. Every invalidation bumps a generation of the
+ * resource, and a load only stores its response if the generation is unchanged, so a load that
+ * raced an invalidation cannot put the stale response back. Every response carries an ETag, a
+ * matching If-None-Match is answered with 304 and no body.
+ */
+@Slf4j
+@Component
+public class ResponseCache {
+
+  public static final String USERS = "users";
+  public static final String CARDS = "cards";
+  public static final String ORDERS = "orders";
+
+  private static final String KEY_PREFIX = "response-cache:";
+  private static final String GENERATION_PREFIX = "response-cache:generation:";
+  private static final String OWNER_PREFIX = "response-cache:owner:";
+  private static final String INVALIDATION_CHANNEL = "response-cache:invalidations";
+  private static final RedisScript<Long> STORE_SCRIPT = RedisScript.of(
+      new ClassPathResource("scripts/response_cache_store.lua"), Long.class);
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final ResponseCacheProperties responseCacheProperties;
+  private final MeterRegistry meterRegistry;
+  private final Cache<String, Map<String, CachedResponse>> localEntries;
+  private final AtomicLong localInvalidations = new AtomicLong();
+  private Disposable invalidations;
+
+  public ResponseCache(ReactiveStringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+      ResponseCacheProperties responseCacheProperties, MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.responseCacheProperties = responseCacheProperties;
+    this.meterRegistry = meterRegistry;
+    this.localEntries = Caffeine.newBuilder()
+        .maximumSize(responseCacheProperties.getLocalMaxSize())
+        .expireAfterWrite(responseCacheProperties.getLocalTtl())
+        .build();
+  }
+
+  @PostConstruct
+  public void subscribeToInvalidations() {
+    if (!responseCacheProperties.isEnabled()) {
+      return;
+    }
+    invalidations = redisTemplate.listenToChannel(INVALIDATION_CHANNEL)
+        .doOnNext(message -> invalidateLocal(message.getMessage()))
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+            .maxBackoff(Duration.ofSeconds(30))
+            .doBeforeRetry(signal -> log.warn(
+                "API Gateway: Response cache invalidations unavailable: {}",
+                signal.failure().getMessage())))
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void stopInvalidations() {
+    if (invalidations != null) {
+      invalidations.dispose();
+    }
+  }
+
+  /**
+   * Answer a GET request for a resource from the cache, or load, cache and answer it
+   *
+   * @param request the GET request
+   * @param resource resource type, one of {@link #USERS}, {@link #CARDS}, {@link #ORDERS}
+   * @param id      resource id
+   * @param loader  loads the resource when it is not cached
+   * @return 200 with the resource, 304 when If-None-Match matches, empty when nothing was loaded
+   */
+  public <T> Mono<ServerResponse> getOrLoad(ServerRequest request, String resource, String id,
+      Supplier<Mono<T>> loader) {
+    return getOrLoad(request, resource, id, loader, value -> null);
+  }
+
+  /**
+   * Answer a GET request for a resource owned by a user, which {@link #invalidateUser} drops
+   *
+   * @param owner user id of the owner of a loaded resource
+   */
+  public <T> Mono<ServerResponse> getOrLoad(ServerRequest request, String resource, String id,
+      Supplier<Mono<T>> loader, Function<T, String> owner) {
+    Optional<Object> principal = request.attribute(JwtRouterFilter.PRINCIPAL_ATTRIBUTE);
+    if (!responseCacheProperties.isEnabled() || principal.isEmpty()) {
+      return Mono.defer(loader)
+          .map(this::toCachedResponse)
+          .flatMap(cached -> respond(request, cached));
+    }
+
+    String entryKey = resource + ":" + id;
+    String field = principal.get().toString();
+    long invalidations = localInvalidations.get();
+
+    return Mono.justOrEmpty(fromLocal(entryKey, field))
+        .doOnNext(cached -> count("local"))
+        .switchIfEmpty(Mono.defer(() -> fromRedis(entryKey, field))
+            .doOnNext(cached -> {
+              count("redis");
+              toLocal(entryKey, field, cached, invalidations);
+            }))
+        .switchIfEmpty(Mono.defer(() -> generation(entryKey))
+            .flatMap(generation -> Mono.defer(loader)
+                .flatMap(value -> {
+                  CachedResponse cached = toCachedResponse(value);
+                  count("miss");
+                  return store(entryKey, field, cached, generation, owner.apply(value),
+                      invalidations).thenReturn(cached);
+                })))
+        .flatMap(cached -> respond(request, cached));
+  }
+
+  /**
+   * Drop a resource from the cache of every principal and every gateway instance
+   */
+  public Mono<Void> invalidate(String resource, String id) {
+    return invalidate(resource + ":" + id);
+  }
+
+  /**
+   * Drop a deleted user together with the cached cards and orders it owned
+   *
+   * @param cardIds ids of the cards of the user, which are not tracked by owner
+   */
+  public Mono<Void> invalidateUser(String userId, List<Long> cardIds) {
+    Mono<Void> ownedEntries = !responseCacheProperties.isEnabled()
+        ? Mono.empty()
+        : redisTemplate.opsForSet().members(OWNER_PREFIX + userId)
+            .concatMap(this::invalidate)
+            .then(redisTemplate.delete(OWNER_PREFIX + userId))
+            .then()
+            .onErrorResume(error -> {
+              log.warn("API Gateway: Invalidation of entries of user {} failed: {}", userId,
+                  error.getMessage());
+              return Mono.empty();
+            });
+
+    return invalidate(USERS, userId)
+        .thenMany(Flux.fromIterable(cardIds))
+        .concatMap(cardId -> invalidate(CARDS, String.valueOf(cardId)))
+        .then(ownedEntries);
+  }
+
+  private Mono<Void> invalidate(String entryKey) {
+    invalidateLocal(entryKey);
+    if (!responseCacheProperties.isEnabled()) {
+      return Mono.empty();
+    }
+
+    String generationKey = GENERATION_PREFIX + entryKey;
+    return redisTemplate.opsForValue().increment(generationKey)
+        .then(redisTemplate.expire(generationKey, responseCacheProperties.getTtl()))
+        .then(redisTemplate.delete(KEY_PREFIX + entryKey))
+        .then(redisTemplate.convertAndSend(INVALIDATION_CHANNEL, entryKey))
+        .then()
+        .onErrorResume(error -> {
+          log.warn("API Gateway: Invalidation of {} in response cache failed: {}", entryKey,
+              error.getMessage());
+          return Mono.empty();
+        });
+  }
+
+  private void invalidateLocal(String entryKey) {
+    localInvalidations.incrementAndGet();
+    localEntries.invalidate(entryKey);
+  }
+
+  private CachedResponse fromLocal(String entryKey, String field) {
+    Map<String, CachedResponse> entries = localEntries.getIfPresent(entryKey);
+    return entries != null ? entries.get(field) : null;
+  }
+
+  /**
+   * Caches a response in process unless an invalidation arrived since it was read, rechecked
+   * after the write for an invalidation arriving meanwhile
+   */
+  private void toLocal(String entryKey, String field, CachedResponse cached, long invalidations) {
+    if (localInvalidations.get() != invalidations) {
+      return;
+    }
+    localEntries.get(entryKey, key -> new ConcurrentHashMap<>()).put(field, cached);
+    if (localInvalidations.get() != invalidations) {
+      localEntries.invalidate(entryKey);
+    }
+  }
+
+  private Mono<String> generation(String entryKey) {
+    return redisTemplate.opsForValue().get(GENERATION_PREFIX + entryKey)
+        .defaultIfEmpty("0")
+        .onErrorResume(error -> {
+          log.warn("API Gateway: Response cache read of {} failed: {}", entryKey,
+              error.getMessage());
+          return Mono.just("0");
+        });
+  }
+
+  private Mono<CachedResponse> fromRedis(String entryKey, String field) {
+    return redisTemplate.<String, String>opsForHash().get(KEY_PREFIX + entryKey, field)
+        .map(this::fromJson)
+        .onErrorResume(error -> {
+          log.warn("API Gateway: Response cache read of {} failed: {}", entryKey,
+              error.getMessage());
+          return Mono.empty();
+        });
+  }
+
+  private Mono<Void> store(String entryKey, String field, CachedResponse cached, String generation,
+      String owner, long invalidations) {
+    List<String> keys = owner == null
+        ? List.of(KEY_PREFIX + entryKey, GENERATION_PREFIX + entryKey)
+        : List.of(KEY_PREFIX + entryKey, GENERATION_PREFIX + entryKey, OWNER_PREFIX + owner);
+    List<String> args = List.of(generation, field, toJson(cached),
+        String.valueOf(responseCacheProperties.getTtl().toMillis()), entryKey);
+
+    return redisTemplate.execute(STORE_SCRIPT, keys, args)
+        .next()
+        .map(stored -> stored == 1L)
+        .onErrorResume(error -> {
+          log.warn("API Gateway: Response cache write of {} failed: {}", entryKey,
+              error.getMessage());
+          return Mono.just(true);
+        })
+        .doOnNext(stored -> {
+          if (stored) {
+            toLocal(entryKey, field, cached, invalidations);
+          }
+        })
+        .then();
+  }
+
+  private Mono<ServerResponse> respond(ServerRequest request, CachedResponse cached) {
+    CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+    if (matches(request.headers().header(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+      return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+          .eTag(cached.etag())
+          .cacheControl(cacheControl)
+          .build();
+    }
+    return ServerResponse.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(cached.etag())
+        .cacheControl(cacheControl)
+        .bodyValue(cached.body());
+  }
+
+  private boolean matches(Iterable<String> ifNoneMatch, String etag) {
+    for (String header : ifNoneMatch) {
+      for (String tag : header.split(",")) {
+        String candidate = tag.trim();
+        if (candidate.startsWith("W/")) {
+          candidate = candidate.substring(2);
+        }
+        if (candidate.equals("*") || candidate.equals(etag)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private CachedResponse toCachedResponse(Object value) {
+    String body = toJson(value);
+    String etag = "\"" + DigestUtils.md5DigestAsHex(body.getBytes(StandardCharsets.UTF_8)) + "\"";
+    return new CachedResponse(etag, body);
+  }
+
+  private void count(String result) {
+    meterRegistry.counter("gateway.response-cache.requests", "result", result).increment();
+  }
+
+  private String toJson(Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Failed to serialize response", ex);
+    }
+  }
+
+  private CachedResponse fromJson(String json) {
+    try {
+      return objectMapper.readValue(json, CachedResponse.class);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Failed to deserialize cached response", ex);
+    }
+  }
+
+  /**
+   * Serialized response body with its entity tag
+   */
+  record CachedResponse(String etag, String body) {
+
+  }
+}
@@ -0,0 +1,84 @@
+package com.innowise.apigateway.service.coalescing;
+
+import com.innowise.apigateway.config.CoalescingProperties;
+import com.innowise.apigateway.filter.JwtRouterFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lets concurrent identical GET requests share one downstream call. The first request for a key
+ * subscribes to the call, later requests with the same key join it until it completes. The key
+ * contains the authenticated principal, so users never receive each other's data; requests
+ * without a known principal are never coalesced.
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+  private final CoalescingProperties coalescingProperties;
+  private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+  private final Counter hits;
+  private final Counter misses;
+
+  public RequestCoalescer(CoalescingProperties coalescingProperties, MeterRegistry meterRegistry) {
+    this.coalescingProperties = coalescingProperties;
+    this.hits = Counter.builder("gateway.coalescing.requests")
+        .description("GET requests that joined an in-flight downstream call")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.misses = Counter.builder("gateway.coalescing.requests")
+        .description("GET requests that started a downstream call")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    meterRegistry.gauge("gateway.coalescing.in-flight", inFlight, Map::size);
+  }
+
+  /**
+   * Run the downstream call of a GET request, or join an identical call that is in flight
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Mono<T> coalesce(ServerRequest request, Supplier<Mono<T>> call) {
+    Optional<Object> principal = request.attribute(JwtRouterFilter.PRINCIPAL_ATTRIBUTE);
+    if (!coalescingProperties.isEnabled() || !HttpMethod.GET.equals(request.method())
+        || principal.isEmpty()) {
+      return Mono.defer(call);
+    }
+
+    return Mono.defer(() -> {
+      String key = key(request, principal.get());
+      boolean[] started = new boolean[1];
+
+      Mono<?> shared = inFlight.computeIfAbsent(key, k -> {
+        started[0] = true;
+        return Mono.defer(call)
+            .doFinally(signal -> inFlight.remove(k))
+            .share();
+      });
+
+      if (started[0]) {
+        misses.increment();
+      } else {
+        hits.increment();
+        log.debug("API Gateway: Joined in-flight request {}", key);
+      }
+      return (Mono<T>) shared;
+    });
+  }
+
+  private String key(ServerRequest request, Object principal) {
+    String query = request.uri().getRawQuery();
+
+    return request.method().name() + " " + request.path()
+        + (query != null ? "?" + query : "")
+        + " " + principal;
+  }
+}
@@ -0,0 +1,163 @@
+package com.innowise.apigateway.service.hedging;
+
+import com.innowise.apigateway.config.HedgingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Sends a second attempt of an idempotent read when the first one has not answered within the
+ * configured percentile of recently observed latencies, and takes whichever answers first. A
+ * budget refilled by every request caps the share of requests that are duplicated, so a slow
+ * service never receives twice its load.
+ */
+@Slf4j
+@Component
+public class RequestHedger {
+
+  private final HedgingProperties hedgingProperties;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Hedge> hedges = new ConcurrentHashMap<>();
+
+  public RequestHedger(HedgingProperties hedgingProperties, MeterRegistry meterRegistry) {
+    this.hedgingProperties = hedgingProperties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Run the call, hedged when the operation has a policy
+   *
+   * @param operation operation name the policy is configured by
+   * @param call      idempotent call, subscribed once per attempt
+   */
+  public <T> Mono<T> hedge(String operation, Supplier<Mono<T>> call) {
+    return hedge(operation, call, call);
+  }
+
+  /**
+   * Run the call, hedged by a different call when the operation has a policy. The hedge must not
+   * join the primary attempt, e.g. a batched primary is hedged by the single request
+   *
+   * @param operation operation name the policy is configured by
+   * @param call      primary call
+   * @param hedgeCall idempotent call returning the same result, sent as the second attempt
+   */
+  public <T> Mono<T> hedge(String operation, Supplier<Mono<T>> call,
+      Supplier<Mono<T>> hedgeCall) {
+    HedgingProperties.Policy policy = hedgingProperties.getOperations().get(operation);
+    if (!hedgingProperties.isEnabled() || policy == null) {
+      return Mono.defer(call);
+    }
+
+    return Mono.defer(() -> {
+      Hedge hedge = hedges.computeIfAbsent(operation, name -> new Hedge(policy));
+      hedge.deposit();
+      long start = System.nanoTime();
+
+      // A primary that ends without a value before the hedge is sent is the answer, after that
+      // the hedge still gets its chance
+      AtomicReference<Throwable> primaryError = new AtomicReference<>();
+      Sinks.One<Boolean> primaryEnded = Sinks.one();
+      Mono<T> primary = Mono.defer(call)
+          .doOnSuccess(value -> {
+            if (value == null) {
+              primaryEnded.tryEmitValue(true);
+            }
+          })
+          .doOnError(error -> {
+            primaryError.set(error);
+            primaryEnded.tryEmitValue(true);
+          });
+      Mono<T> secondary = Mono.delay(hedge.delay())
+          .takeUntilOther(primaryEnded.asMono())
+          .flatMap(tick -> {
+            if (!hedge.withdraw()) {
+              count(operation, "denied");
+              return Mono.<T>empty();
+            }
+            count(operation, "sent");
+            log.debug("API Gateway: Hedging {} after {}", operation, hedge.delay());
+            return Mono.defer(hedgeCall)
+                .doOnNext(value -> count(operation, "won"));
+          });
+
+      // Both attempts failed or were empty: report what the primary ended with
+      return Mono.firstWithValue(primary, secondary)
+          .doOnNext(value -> hedge.record(System.nanoTime() - start))
+          .onErrorResume(error -> primaryError.get() != null ? Mono.error(primaryError.get())
+              : Mono.empty());
+    });
+  }
+
+  private void count(String operation, String outcome) {
+    meterRegistry.counter("gateway.hedging.hedges", "operation", operation, "outcome", outcome)
+        .increment();
+  }
+
+  /**
+   * Latencies and budget of one operation
+   */
+  private static final class Hedge {
+
+    private static final long BUDGET_UNIT = 10_000;
+    private static final long MAX_BALANCE = 10 * BUDGET_UNIT;
+
+    private final HedgingProperties.Policy policy;
+    private final long[] latencies;
+    private final long depositPerRequest;
+    private final AtomicLong balance = new AtomicLong();
+    private int recorded;
+    private volatile Duration delay;
+
+    private Hedge(HedgingProperties.Policy policy) {
+      this.policy = policy;
+      this.latencies = new long[Math.max(10, policy.getWindow())];
+      this.depositPerRequest = Math.round(policy.getBudgetPercent() / 100 * BUDGET_UNIT);
+      this.delay = policy.getInitialDelay();
+    }
+
+    Duration delay() {
+      return delay;
+    }
+
+    void deposit() {
+      balance.updateAndGet(current -> Math.min(MAX_BALANCE, current + depositPerRequest));
+    }
+
+    boolean withdraw() {
+      return balance.getAndUpdate(current -> current >= BUDGET_UNIT ? current - BUDGET_UNIT
+          : current) >= BUDGET_UNIT;
+    }
+
+    /**
+     * Store a latency measured from the start of the primary attempt and recompute the delay
+     * every tenth of the window once it is filled
+     */
+    synchronized void record(long latencyNanos) {
+      latencies[recorded % latencies.length] = latencyNanos;
+      recorded++;
+      if (recorded < latencies.length || recorded % Math.max(1, latencies.length / 10) != 0) {
+        return;
+      }
+      if (recorded >= 2 * latencies.length) {
+        recorded -= latencies.length;
+      }
+
+      long[] sorted = latencies.clone();
+      Arrays.sort(sorted);
+      int index = (int) Math.min(sorted.length - 1, Math.ceil(policy.getPercentile()
+          * sorted.length) - 1);
+      Duration percentile = Duration.ofNanos(sorted[Math.max(0, index)]);
+      delay = percentile.compareTo(policy.getMinDelay()) > 0 ? percentile : policy.getMinDelay();
+    }
+  }
+}
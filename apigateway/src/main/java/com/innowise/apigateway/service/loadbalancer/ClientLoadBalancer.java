@@ -0,0 +1,207 @@
+package com.innowise.apigateway.service.loadbalancer;
+
+import com.innowise.apigateway.config.LoadBalancerProperties;
+import com.innowise.apigateway.config.ServiceConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spreads the requests to a downstream service over its configured instances. Instances are
+ * picked by outstanding requests, ejected for a while after consecutive failed or slow responses,
+ * and probed on their health endpoint in the background. When no instance is available, all of
+ * them are used again rather than failing every request.
+ */
+@Slf4j
+@Component
+public class ClientLoadBalancer {
+
+  private final ServiceConfig serviceConfig;
+  private final LoadBalancerProperties loadBalancerProperties;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, List<ServiceInstance>> instances = new ConcurrentHashMap<>();
+  private final Map<String, WebClient> healthClients = new ConcurrentHashMap<>();
+  private Disposable healthChecks;
+
+  public ClientLoadBalancer(ServiceConfig serviceConfig,
+      LoadBalancerProperties loadBalancerProperties, MeterRegistry meterRegistry) {
+    this.serviceConfig = serviceConfig;
+    this.loadBalancerProperties = loadBalancerProperties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @PostConstruct
+  public void startHealthChecks() {
+    if (loadBalancerProperties.getHealthCheckInterval().isZero()) {
+      return;
+    }
+    healthChecks = Flux.interval(loadBalancerProperties.getHealthCheckInterval())
+        .concatMap(tick -> Flux.fromIterable(instances.entrySet())
+            .flatMap(entry -> Flux.fromIterable(entry.getValue())
+                .flatMap(instance -> probe(entry.getKey(), instance))))
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void stopHealthChecks() {
+    if (healthChecks != null) {
+      healthChecks.dispose();
+    }
+  }
+
+  /**
+   * Filter for the WebClient of a service. Requests to the service URL are sent to the picked
+   * instance, other requests and services without configured instances are left untouched.
+   *
+   * @param service   service name
+   * @param connector connector of the service, also used for the health probes so they share its
+   *                  connection pool and timeouts
+   */
+  public ExchangeFilterFunction filter(String service, ClientHttpConnector connector) {
+    String serviceUrl = serviceConfig.getServiceUrl(service);
+    List<String> configured = serviceConfig.getInstances(service);
+    if (configured.equals(List.of(serviceUrl))) {
+      return (request, next) -> next.exchange(request);
+    }
+
+    URI serviceUri = URI.create(serviceUrl);
+    List<ServiceInstance> serviceInstances = configured.stream()
+        .map(url -> new ServiceInstance(URI.create(url)))
+        .toList();
+    instances.put(service, serviceInstances);
+    healthClients.put(service, WebClient.builder().clientConnector(connector).build());
+    serviceInstances.forEach(instance -> Gauge.builder("gateway.load-balancer.outstanding",
+            instance, ServiceInstance::outstanding)
+        .tag("service", service)
+        .tag("instance", instance.baseUri().toString())
+        .register(meterRegistry));
+
+    return (request, next) -> {
+      if (!sameAuthority(request.url(), serviceUri)) {
+        return next.exchange(request);
+      }
+
+      ServiceInstance instance = choose(serviceInstances);
+      ClientRequest routed = ClientRequest.from(request)
+          .url(UriComponentsBuilder.fromUri(request.url())
+              .scheme(instance.baseUri().getScheme())
+              .host(instance.baseUri().getHost())
+              .port(instance.baseUri().getPort())
+              .build(true)
+              .toUri())
+          .build();
+
+      return Mono.defer(() -> {
+        instance.start();
+        long start = System.nanoTime();
+        return next.exchange(routed)
+            .doOnNext(response -> record(service, serviceInstances, instance,
+                !response.statusCode().is5xxServerError(), System.nanoTime() - start))
+            .doOnError(error -> record(service, serviceInstances, instance, false,
+                System.nanoTime() - start))
+            .doFinally(signal -> instance.finish());
+      });
+    };
+  }
+
+  private ServiceInstance choose(List<ServiceInstance> serviceInstances) {
+    long now = System.nanoTime();
+    List<ServiceInstance> available = serviceInstances.stream()
+        .filter(instance -> instance.isAvailable(now))
+        .toList();
+    if (available.isEmpty()) {
+      available = serviceInstances;
+    }
+    if (available.size() == 1) {
+      return available.get(0);
+    }
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (loadBalancerProperties.getStrategy()
+        == LoadBalancerProperties.Strategy.LEAST_OUTSTANDING_REQUESTS) {
+      List<ServiceInstance> candidates = available;
+      int offset = random.nextInt(candidates.size());
+      return IntStream.range(0, candidates.size())
+          .mapToObj(i -> candidates.get((offset + i) % candidates.size()))
+          .min(Comparator.comparingInt(ServiceInstance::outstanding))
+          .orElseThrow();
+    }
+
+    int first = random.nextInt(available.size());
+    int second = random.nextInt(available.size() - 1);
+    if (second >= first) {
+      second++;
+    }
+    ServiceInstance a = available.get(first);
+    ServiceInstance b = available.get(second);
+    return a.outstanding() <= b.outstanding() ? a : b;
+  }
+
+  private void record(String service, List<ServiceInstance> serviceInstances,
+      ServiceInstance instance, boolean success, long latencyNanos) {
+    boolean slow = latencyNanos > loadBalancerProperties.getSlowResponseThreshold().toNanos();
+    int failures = instance.recordResult(success && !slow);
+    if (failures < loadBalancerProperties.getConsecutiveFailures()) {
+      return;
+    }
+
+    long now = System.nanoTime();
+    long ejected = serviceInstances.stream().filter(other -> other.isEjected(now)).count();
+    long maxEjected = Math.max(1,
+        serviceInstances.size() * loadBalancerProperties.getMaxEjectionPercent() / 100);
+    if (ejected >= maxEjected || instance.isEjected(now)) {
+      return;
+    }
+    instance.eject(now + loadBalancerProperties.getEjectionTime().toNanos());
+    log.warn("API Gateway: Instance {} of {} service ejected after {} failed or slow responses",
+        instance.baseUri(), service, failures);
+  }
+
+  private Mono<Void> probe(String service, ServiceInstance instance) {
+    return healthClients.get(service).get()
+        .uri(instance.baseUri().resolve(loadBalancerProperties.getHealthCheckPath()))
+        .exchangeToMono(response -> response.releaseBody()
+            .thenReturn(response.statusCode().is2xxSuccessful()))
+        .timeout(loadBalancerProperties.getHealthCheckTimeout())
+        .onErrorReturn(false)
+        .doOnNext(healthy -> {
+          if (healthy != instance.isHealthy()) {
+            log.warn("API Gateway: Instance {} of {} service is {}", instance.baseUri(), service,
+                healthy ? "healthy again" : "unhealthy");
+          }
+          instance.setHealthy(healthy);
+        })
+        .then();
+  }
+
+  private static boolean sameAuthority(URI uri, URI serviceUri) {
+    return Objects.equals(uri.getHost(), serviceUri.getHost())
+        && port(uri) == port(serviceUri);
+  }
+
+  private static int port(URI uri) {
+    if (uri.getPort() != -1) {
+      return uri.getPort();
+    }
+    return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+  }
+}
@@ -0,0 +1,68 @@
+package com.innowise.apigateway.service.loadbalancer;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One instance of a downstream service with the state instance selection is based on
+ */
+final class ServiceInstance {
+
+  private final URI baseUri;
+  private final AtomicInteger outstanding = new AtomicInteger();
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private volatile long ejectedUntilNanos;
+  private volatile boolean healthy = true;
+
+  ServiceInstance(URI baseUri) {
+    this.baseUri = baseUri;
+  }
+
+  URI baseUri() {
+    return baseUri;
+  }
+
+  int outstanding() {
+    return outstanding.get();
+  }
+
+  void start() {
+    outstanding.incrementAndGet();
+  }
+
+  void finish() {
+    outstanding.decrementAndGet();
+  }
+
+  /**
+   * @return consecutive failures including this one, zero after a success
+   */
+  int recordResult(boolean success) {
+    if (success) {
+      consecutiveFailures.set(0);
+      return 0;
+    }
+    return consecutiveFailures.incrementAndGet();
+  }
+
+  boolean isEjected(long nowNanos) {
+    return ejectedUntilNanos - nowNanos > 0;
+  }
+
+  void eject(long untilNanos) {
+    ejectedUntilNanos = untilNanos;
+    consecutiveFailures.set(0);
+  }
+
+  boolean isHealthy() {
+    return healthy;
+  }
+
+  void setHealthy(boolean healthy) {
+    this.healthy = healthy;
+  }
+
+  boolean isAvailable(long nowNanos) {
+    return healthy && !isEjected(nowNanos);
+  }
+}
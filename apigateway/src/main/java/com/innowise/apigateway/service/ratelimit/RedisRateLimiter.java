@@ -0,0 +1,112 @@
+package com.innowise.apigateway.service.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.innowise.apigateway.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Token bucket rate limiter shared by all gateway instances. A bucket lives in Redis and is
+ * updated by one atomic Lua script per call. To keep most checks away from Redis, a call takes up
+ * to {@code localBatch} tokens at once and the rest are used locally for a short lease.
+ */
+@Slf4j
+@Component
+public class RedisRateLimiter {
+
+  private static final String KEY_PREFIX = "rate-limit:";
+  private static final RedisScript<List<Long>> SCRIPT = rateLimiterScript();
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final MeterRegistry meterRegistry;
+  private final Cache<String, AtomicInteger> leases;
+
+  public RedisRateLimiter(ReactiveStringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+      RateLimitProperties rateLimitProperties) {
+    this.redisTemplate = redisTemplate;
+    this.meterRegistry = meterRegistry;
+    this.leases = Caffeine.newBuilder()
+        .maximumSize(rateLimitProperties.getLocalCacheMaxSize())
+        .expireAfterWrite(rateLimitProperties.getLeaseTtl())
+        .build();
+  }
+
+  /**
+   * Take one token from the bucket of a client. When Redis is unavailable the request is allowed,
+   * so the limiter never takes the gateway down with it.
+   *
+   * @param ruleName name of the matched rule
+   * @param rule     the matched rule
+   * @param client   principal or address of the client
+   * @return decision with the time to wait when the request is rejected
+   */
+  public Mono<Decision> tryAcquire(String ruleName, RateLimitProperties.Rule rule,
+      String client) {
+    String key = KEY_PREFIX + ruleName + ":" + client;
+
+    AtomicInteger lease = leases.getIfPresent(key);
+    if (lease != null && lease.getAndUpdate(left -> left > 0 ? left - 1 : left) > 0) {
+      return Mono.just(record(ruleName, Decision.ALLOWED));
+    }
+
+    List<String> args = List.of(
+        String.valueOf(rule.getCapacity()),
+        String.valueOf(rule.getRefillPerSecond() / 1000),
+        String.valueOf(Math.max(1, rule.getLocalBatch())));
+
+    return redisTemplate.execute(SCRIPT, List.of(key), args)
+        .next()
+        .map(result -> {
+          long granted = result.get(0);
+          if (granted == 0) {
+            return Decision.rejected(Duration.ofMillis(result.get(1)));
+          }
+          if (granted > 1) {
+            leases.put(key, new AtomicInteger((int) granted - 1));
+          }
+          return Decision.ALLOWED;
+        })
+        .onErrorResume(error -> {
+          log.warn("API Gateway: Rate limiter unavailable, request allowed: {}",
+              error.getMessage());
+          return Mono.just(Decision.ALLOWED);
+        })
+        .map(decision -> record(ruleName, decision));
+  }
+
+  private Decision record(String ruleName, Decision decision) {
+    meterRegistry.counter("gateway.rate-limit.requests", "rule", ruleName,
+        "result", decision.allowed() ? "allowed" : "rejected").increment();
+    return decision;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static RedisScript<List<Long>> rateLimiterScript() {
+    return (RedisScript) RedisScript.of(new ClassPathResource("scripts/rate_limiter.lua"),
+        List.class);
+  }
+
+  /**
+   * Result of a rate limit check
+   *
+   * @param allowed    whether the request may proceed
+   * @param retryAfter time until the next token, zero when allowed
+   */
+  public record Decision(boolean allowed, Duration retryAfter) {
+
+    static final Decision ALLOWED = new Decision(true, Duration.ZERO);
+
+    static Decision rejected(Duration retryAfter) {
+      return new Decision(false, retryAfter);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.innowise.apigateway.service.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+/**
+ * Guards the calls to every downstream service with its own time limiter, circuit breaker and
+ * bulkhead, configured under resilience4j.* by service name. An open circuit or a full bulkhead
+ * rejects a call at once instead of letting it wait for a connection, the rejection surfaces as
+ * {@link DownstreamUnavailableException}.
+ */
+@Slf4j
+@Component
+public class DownstreamResilience {
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+  private final BulkheadRegistry bulkheadRegistry;
+  private final TimeLimiterRegistry timeLimiterRegistry;
+
+  public DownstreamResilience(CircuitBreakerRegistry circuitBreakerRegistry,
+      BulkheadRegistry bulkheadRegistry, TimeLimiterRegistry timeLimiterRegistry) {
+    this.circuitBreakerRegistry = circuitBreakerRegistry;
+    this.bulkheadRegistry = bulkheadRegistry;
+    this.timeLimiterRegistry = timeLimiterRegistry;
+  }
+
+  /**
+   * Filter for the WebClient of a service. The bulkhead is applied outermost so rejected calls do
+   * not count as circuit breaker failures, the time limiter innermost so timeouts do.
+   */
+  public ExchangeFilterFunction filter(String service) {
+    CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(service);
+    Bulkhead bulkhead = bulkheadRegistry.bulkhead(service);
+    TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(service);
+
+    circuitBreaker.getEventPublisher().onStateTransition(event ->
+        log.warn("API Gateway: Circuit breaker of {} service: {}", service,
+            event.getStateTransition()));
+
+    return (request, next) -> next.exchange(request)
+        .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+        .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+        .transformDeferred(BulkheadOperator.of(bulkhead))
+        .onErrorMap(DownstreamResilience::isRejection, error -> {
+          log.warn("API Gateway: Call to {} service rejected: {}", service, error.getMessage());
+          return new DownstreamUnavailableException(service, error);
+        });
+  }
+
+  private static boolean isRejection(Throwable error) {
+    return error instanceof CallNotPermittedException || error instanceof BulkheadFullException;
+  }
+}
@@ -0,0 +1,22 @@
+package com.innowise.apigateway.service.resilience;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Thrown when a call to a downstream service was rejected by its open circuit or full bulkhead.
+ * Left unhandled it is answered with 503 Service Unavailable by the default error handler.
+ */
+public class DownstreamUnavailableException extends ResponseStatusException {
+
+  private final String service;
+
+  public DownstreamUnavailableException(String service, Throwable cause) {
+    super(HttpStatus.SERVICE_UNAVAILABLE, service + " service unavailable", cause);
+    this.service = service;
+  }
+
+  public String getService() {
+    return service;
+  }
+}
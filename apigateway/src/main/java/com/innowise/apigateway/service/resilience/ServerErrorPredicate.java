@@ -0,0 +1,17 @@
+package com.innowise.apigateway.service.resilience;
+
+import java.util.function.Predicate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+/**
+ * Lets circuit breakers record 5xx responses of a downstream service as failures. WebClient
+ * exchanges complete normally for every status, so without it only connection errors and timeouts
+ * would open a circuit.
+ */
+public class ServerErrorPredicate implements Predicate<Object> {
+
+  @Override
+  public boolean test(Object result) {
+    return result instanceof ClientResponse response && response.statusCode().is5xxServerError();
+  }
+}
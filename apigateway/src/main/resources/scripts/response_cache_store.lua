@@ -0,0 +1,24 @@
+-- Stores a cached response unless its resource was invalidated after the load started.
+-- KEYS[1]  entry hash of the resource
+-- KEYS[2]  invalidation generation of the resource
+-- KEYS[3]  optional set of the cached resources of the owner
+-- ARGV[1]  generation read before the load
+-- ARGV[2]  principal field
+-- ARGV[3]  serialized response
+-- ARGV[4]  time to live in milliseconds
+-- ARGV[5]  entry key recorded for the owner, used with KEYS[3]
+-- Returns 1 when the response was stored, 0 when the resource was invalidated meanwhile
+
+if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+  return 0
+end
+
+redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+
+if #KEYS == 3 then
+  redis.call('SADD', KEYS[3], ARGV[5])
+  redis.call('PEXPIRE', KEYS[3], ARGV[4])
+end
+
+return 1
@@ -0,0 +1,58 @@
+package com.innowise.authentication.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.innowise.authentication.repository.UserRoleRepository;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory cache of user roles keyed by login
+ */
+@Component
+public class UserRolesCache {
+
+  private final LoadingCache<String, List<String>> roles;
+
+  public UserRolesCache(UserRoleRepository userRoleRepository,
+      @Value("${security.roles-cache.max-size:10000}") long maxSize,
+      @Value("${security.roles-cache.ttl:PT10M}") Duration ttl) {
+    this.roles = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .build(login -> List.copyOf(userRoleRepository.findRolesByUserLogin(login)));
+  }
+
+  /**
+   * Get roles of the user, loading them from the database on a miss
+   *
+   * @param login user login
+   * @return list of roles, empty if the user has none or does not exist
+   */
+  public List<String> getRoles(String login) {
+    return roles.get(login);
+  }
+
+  /**
+   * Evict roles of the user. Inside a transaction the entry is evicted again after commit, so a
+   * concurrent read cannot cache the state from before the change.
+   *
+   * @param login user login
+   */
+  public void invalidate(String login) {
+    roles.invalidate(login);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          roles.invalidate(login);
+        }
+      });
+    }
+  }
+}
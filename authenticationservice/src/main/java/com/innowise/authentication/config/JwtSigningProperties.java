@@ -0,0 +1,41 @@
+package com.innowise.authentication.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the algorithm and key rotation used to sign JWT tokens
+ */
+@Configuration
+@ConfigurationProperties(prefix = "jwt.signing")
+@Data
+public class JwtSigningProperties {
+
+  /**
+   * Signing algorithm: HS256 (shared secret), RS256 or EdDSA (Ed25519)
+   */
+  private String algorithm = "HS256";
+
+  /**
+   * How often a new asymmetric signing key is generated
+   */
+  private Duration rotationInterval = Duration.ofHours(24);
+
+  /**
+   * Number of previous public keys kept for verification and published in the JWKS
+   */
+  private int retainedKeys = 2;
+
+  /**
+   * How often keys are reloaded from the database, picking up keys rotated by other instances
+   */
+  private Duration keyRefreshInterval = Duration.ofMinutes(1);
+
+  /**
+   * Base64 encoded AES key (128, 192 or 256 bit) encrypting the stored private keys, required
+   * for RS256 and EdDSA
+   */
+  private String keyEncryptionKey;
+}
@@ -0,0 +1,50 @@
+package com.innowise.authentication.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for password hashing and the executor it runs on
+ */
+@Configuration
+@ConfigurationProperties(prefix = "security.password")
+@Data
+public class PasswordHashingProperties {
+
+  /**
+   * BCrypt log rounds, used as is when calibration is disabled
+   */
+  private int strength = 10;
+
+  /**
+   * Pick the BCrypt strength at startup from the time a hash takes on this host
+   */
+  private boolean calibrate = false;
+
+  /**
+   * Per-hash latency budget the calibrated strength must fit into
+   */
+  private Duration targetLatency = Duration.ofMillis(50);
+
+  /**
+   * Lower bound for the calibrated strength
+   */
+  private int minStrength = 10;
+
+  /**
+   * Upper bound for the calibrated strength
+   */
+  private int maxStrength = 14;
+
+  /**
+   * Number of threads hashing and verifying passwords, defaults to half of the available cores
+   */
+  private int workers = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+  /**
+   * Maximum number of hashing tasks waiting for a worker before requests are rejected with 503
+   */
+  private int queueCapacity = 64;
+}
@@ -0,0 +1,20 @@
+package com.innowise.authentication.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the refresh token registry
+ */
+@Configuration
+@ConfigurationProperties(prefix = "jwt.refresh-token.registry")
+@Data
+public class RefreshTokenProperties {
+
+  /**
+   * How often expired tokens are deleted
+   */
+  private Duration cleanupInterval = Duration.ofHours(1);
+}
@@ -1,8 +1,12 @@
 package com.innowise.authentication.config;
 
+import com.innowise.authentication.security.PasswordStrengthCalibrator;
+import com.innowise.authentication.security.TunedBCryptPasswordEncoder;
+import java.util.Map;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
@@ -11,8 +15,20 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class SecurityConfig {
 
+  private static final String BCRYPT = "bcrypt";
+
+  /**
+   * Stored hashes are prefixed with the algorithm id, e.g. {bcrypt}$2a$12$..., the cost is part of
+   * the BCrypt hash itself. Hashes without a prefix (created before, or restored through
+   * recovery) are still verified as plain BCrypt.
+   */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+    int strength = PasswordStrengthCalibrator.resolveStrength(passwordHashingProperties);
+
+    DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT,
+        Map.of(BCRYPT, new TunedBCryptPasswordEncoder(strength)));
+    encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+    return encoder;
   }
-}
\ No newline at end of file
+}
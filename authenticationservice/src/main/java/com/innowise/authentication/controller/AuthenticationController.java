@@ -9,10 +9,14 @@ import com.innowise.authentication.dto.UserCredentialsDataRecovery;
 import com.innowise.authentication.service.UserCredentialsService;
 import com.innowise.authentication.service.impl.UserCredentialsServiceImpl;
 import jakarta.validation.Valid;
+import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -47,7 +51,7 @@ public class AuthenticationController {
 
   /**
    * Refreshes the access token using a valid refresh token. Generates new access token and
-   * optionally rotates refresh token if expiring soon.
+   * rotates refresh token.
    */
   @PostMapping("/refresh")
   public ResponseEntity<LoginResponse> refreshToken(
@@ -65,6 +69,16 @@ public class AuthenticationController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Returns public keys used to verify tokens signed in RS256/EdDSA mode
+   */
+  @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<String> jwks() {
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)))
+        .body(userCredentialsService.getJwks());
+  }
+
   /**
    * Registers a new user with the provided credentials
    */
@@ -84,6 +98,15 @@ public class AuthenticationController {
     return ResponseEntity.status(HttpStatus.CREATED).build();
   }
 
+  /**
+   * Get user credentials by ID
+   */
+  @GetMapping("/internal/{id}")
+  public ResponseEntity<UserCredentialsDataRecovery> getUserCredentials(@PathVariable String id) {
+    UserCredentialsDataRecovery response = userCredentialsService.getUserCredentials(id);
+    return ResponseEntity.ok().body(response);
+  }
+
   /**
    * Delete user by ID
    */
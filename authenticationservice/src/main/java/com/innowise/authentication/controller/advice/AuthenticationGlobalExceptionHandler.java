@@ -2,9 +2,11 @@ package com.innowise.authentication.controller.advice;
 
 import com.innowise.authentication.exception.ErrorResponse;
 import com.innowise.authentication.exception.InvalidTokenException;
+import com.innowise.authentication.exception.PasswordHashingUnavailableException;
 import com.innowise.authentication.exception.UserNotFoundException;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -72,6 +74,24 @@ public class AuthenticationGlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
   }
 
+  /**
+   * Handle PasswordHashingUnavailableException - 503 Service Unavailable
+   */
+  @ExceptionHandler(PasswordHashingUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailable(
+      PasswordHashingUnavailableException ex, ServletWebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        HttpStatus.SERVICE_UNAVAILABLE.value(),
+        ex.getMessage(),
+        getRequestPath(request)
+    );
+
+    log.warn("Password hashing unavailable: {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(errorResponse);
+  }
+
   /**
    * Handle general exceptions - 500 Internal Server Error
    */
@@ -0,0 +1,41 @@
+package com.innowise.authentication.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representing an asymmetric JWT signing key. The public key is stored Base64 encoded in
+ * its X.509 encoding, the PKCS#8 private key AES-GCM encrypted under the configured key
+ * encryption key
+ */
+@Entity
+@Table(name = "signing_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JwtSigningKey {
+
+  @Id
+  @Column(name = "kid", length = 64)
+  private String kid;
+
+  @Column(name = "algorithm", nullable = false, length = 16)
+  private String algorithm;
+
+  @Column(name = "private_key", nullable = false, columnDefinition = "TEXT")
+  private String privateKey;
+
+  @Column(name = "public_key", nullable = false, columnDefinition = "TEXT")
+  private String publicKey;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+}
@@ -14,7 +14,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -53,10 +52,4 @@ public class UserCredentials {
 
   @OneToMany(mappedBy = "userCredentials", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
   private List<UserRole> roles = new ArrayList<>();
-
-  public List<String> getRolesAsStrings() {
-    return roles.stream()
-        .map(UserRole::getRole)
-        .collect(Collectors.toList());
-  }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.innowise.authentication.exception;
+
+/**
+ * Custom exception
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+  public PasswordHashingUnavailableException(String message) {
+    super(message);
+  }
+}
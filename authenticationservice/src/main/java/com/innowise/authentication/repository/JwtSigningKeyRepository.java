@@ -0,0 +1,48 @@
+package com.innowise.authentication.repository;
+
+import com.innowise.authentication.entity.JwtSigningKey;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository interface for managing {@link JwtSigningKey} entities
+ */
+@Repository
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+
+  /**
+   * Find the newest signing keys of an algorithm
+   *
+   * @param algorithm signing algorithm
+   * @param limit     maximum number of keys
+   * @return keys, newest first
+   */
+  List<JwtSigningKey> findByAlgorithmOrderByCreatedAtDesc(String algorithm, Limit limit);
+
+  /**
+   * Lock the signing keys table until the end of the transaction, so one instance at a time
+   * rotates. Plain reads are not blocked.
+   */
+  @Modifying
+  @Query(value = "LOCK TABLE {h-schema}signing_keys IN EXCLUSIVE MODE", nativeQuery = true)
+  void lockForRotation();
+
+  /**
+   * Delete keys of an algorithm that are no longer retained
+   *
+   * @param algorithm signing algorithm
+   * @param kids      ids of the retained keys
+   * @return number of deleted keys
+   */
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM JwtSigningKey k WHERE k.algorithm = :algorithm AND k.kid NOT IN :kids")
+  int deleteRetired(@Param("algorithm") String algorithm, @Param("kids") Collection<String> kids);
+}
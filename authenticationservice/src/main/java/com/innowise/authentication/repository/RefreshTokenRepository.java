@@ -0,0 +1,47 @@
+package com.innowise.authentication.repository;
+
+import com.innowise.authentication.entity.RefreshToken;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing {@link RefreshToken} entities
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+  /**
+   * Revoke a single active refresh token
+   *
+   * @param jti token id
+   * @return number of revoked tokens, 0 if the token is unknown or already revoked
+   */
+  @Modifying
+  @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.jti = :jti AND rt.revoked = false")
+  int revoke(@Param("jti") String jti);
+
+  /**
+   * Revoke all active refresh tokens of the user
+   *
+   * @param login user login
+   * @return number of revoked tokens
+   */
+  @Modifying
+  @Query("UPDATE RefreshToken rt SET rt.revoked = true "
+      + "WHERE rt.userLogin = :login AND rt.revoked = false")
+  int revokeAllByUserLogin(@Param("login") String login);
+
+  /**
+   * Delete tokens that expired before the given time
+   *
+   * @param now current time
+   * @return number of deleted tokens
+   */
+  @Modifying
+  @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt <= :now")
+  int deleteExpired(@Param("now") Instant now);
+}
@@ -3,9 +3,8 @@ package com.innowise.authentication.repository;
 import com.innowise.authentication.entity.UserCredentials;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for managing {@link UserCredentials} entities
@@ -14,8 +13,8 @@ import org.springframework.stereotype.Repository;
 public interface UserCredentialsRepository extends JpaRepository<UserCredentials, String> {
 
   /**
-   * Find user info by login
+   * Find user credentials by login without loading roles
    */
-  @Query("SELECT uc FROM UserCredentials uc LEFT JOIN FETCH uc.roles WHERE uc.login = :login")
-  Optional<UserCredentials> findByLoginWithRoles(@Param("login") String login);
+  @Transactional(readOnly = true)
+  Optional<UserCredentials> findByLogin(String login);
 }
\ No newline at end of file
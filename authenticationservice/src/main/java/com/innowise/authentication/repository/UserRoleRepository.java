@@ -3,6 +3,8 @@ package com.innowise.authentication.repository;
 import com.innowise.authentication.entity.UserRole;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -18,4 +20,13 @@ public interface UserRoleRepository extends JpaRepository<UserRole, Long> {
    * @return list of user role
    */
   List<UserRole> findAllByUserLogin(String login);
+
+  /**
+   * Find role names of the user
+   *
+   * @param login user login
+   * @return list of role names
+   */
+  @Query("SELECT ur.role FROM UserRole ur WHERE ur.userLogin = :login")
+  List<String> findRolesByUserLogin(@Param("login") String login);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.innowise.authentication.security;
+
+import java.time.Instant;
+
+/**
+ * Record representing a freshly signed token together with its id and expiry
+ */
+public record IssuedToken(
+    String token,
+    String id,
+    Instant expiresAt
+) {
+
+}
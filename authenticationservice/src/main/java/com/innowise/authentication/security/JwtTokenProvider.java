@@ -1,14 +1,24 @@
 package com.innowise.authentication.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,22 +31,40 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class JwtTokenProvider {
 
-  @Value("${jwt.secret}")
-  private String jwtSecret;
+  private static final String AUTHORITIES_CLAIM = "authorities";
 
-  @Value("${jwt.access-token.expiration:3600000}")
-  private long accessTokenExpiration;
+  private final long accessTokenExpiration;
+  private final long refreshTokenExpiration;
+  private final SecretKey hmacKey;
+  private final SigningKeyRing signingKeyRing;
+  private final JwtParser jwtParser;
+  private final Cache<String, VerifiedToken> verifiedTokens;
 
-  @Value("${jwt.refresh-token.expiration:86400000}")
-  private long refreshTokenExpiration;
+  public JwtTokenProvider(@Value("${jwt.secret:}") String jwtSecret,
+      @Value("${jwt.access-token.expiration:3600000}") long accessTokenExpiration,
+      @Value("${jwt.refresh-token.expiration:86400000}") long refreshTokenExpiration,
+      @Value("${jwt.verified-cache.max-size:1024}") long verifiedCacheMaxSize,
+      SigningKeyRing signingKeyRing) {
+    boolean hasSecret = jwtSecret != null && !jwtSecret.isBlank();
+    if (!signingKeyRing.isEnabled() && !hasSecret) {
+      throw new IllegalStateException("jwt.secret must be set for HS256 signing");
+    }
 
-  /**
-   * Generates a signing key from the configured JWT secret
-   *
-   * @return SecretKey for signing and verifying JWT tokens
-   */
-  private SecretKey getSigningKey() {
-    return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    this.accessTokenExpiration = accessTokenExpiration;
+    this.refreshTokenExpiration = refreshTokenExpiration;
+    this.hmacKey = hasSecret
+        ? Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8))
+        : null;
+    this.signingKeyRing = signingKeyRing;
+    this.jwtParser = Jwts.parser()
+        .keyLocator(new SigningKeyLocator())
+        .build();
+    this.verifiedTokens = verifiedCacheMaxSize > 0
+        ? Caffeine.newBuilder()
+        .maximumSize(verifiedCacheMaxSize)
+        .expireAfter(new ExpireAtTokenExpiration())
+        .build()
+        : null;
   }
 
   /**
@@ -47,75 +75,139 @@ public class JwtTokenProvider {
    * @return signed JWT access token as a string
    */
   public String generateAccessToken(String username, List<String> authorities) {
-    return Jwts.builder()
+    JwtBuilder builder = Jwts.builder()
         .subject(username)
-        .claim("authorities", authorities)
+        .claim(AUTHORITIES_CLAIM, authorities)
         .issuedAt(new Date())
-        .expiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
-        .signWith(getSigningKey())
-        .compact();
+        .expiration(new Date(System.currentTimeMillis() + accessTokenExpiration));
+    return sign(builder).compact();
   }
 
   /**
-   * Generates a refresh token for the specified user
+   * Generates a refresh token with a unique id for the specified user
    *
    * @param username the subject (username) of the token
-   * @return signed JWT refresh token as a string
+   * @return signed JWT refresh token with its id and expiration
    */
-  public String generateRefreshToken(String username) {
-    return Jwts.builder()
+  public IssuedToken generateRefreshToken(String username) {
+    String id = UUID.randomUUID().toString();
+    Date expiration = new Date(System.currentTimeMillis() + refreshTokenExpiration);
+
+    JwtBuilder builder = Jwts.builder()
+        .id(id)
         .subject(username)
         .issuedAt(new Date())
-        .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
-        .signWith(getSigningKey())
-        .compact();
+        .expiration(expiration);
+    return new IssuedToken(sign(builder).compact(), id, expiration.toInstant());
   }
 
   /**
-   * Validates the integrity and expiration of a JWT token
+   * Signs with the current key of the ring in asymmetric mode, otherwise with the shared secret
+   */
+  private JwtBuilder sign(JwtBuilder builder) {
+    if (!signingKeyRing.isEnabled()) {
+      return builder.signWith(hmacKey);
+    }
+    SigningKey current = signingKeyRing.current();
+    return builder
+        .header().keyId(current.kid()).and()
+        .signWith(current.privateKey(), current.algorithm());
+  }
+
+  /**
+   * @return public keys currently accepted for verification as a JWK set
+   */
+  public String getJwks() {
+    return signingKeyRing.toJwksJson();
+  }
+
+  /**
+   * Verifies the integrity and expiration of a JWT token and returns its claims. The token is
+   * parsed at most once; recently verified tokens are served from an in-memory LRU
    *
-   * @param token the JWT token to validate
-   * @return true if the token is valid and not expired, false otherwise
+   * @param token the JWT token to verify
+   * @return verified claims, or empty if the token is invalid or expired
    */
-  public boolean validateToken(String token) {
+  public Optional<VerifiedToken> verify(String token) {
     try {
       if (token == null || token.trim().isEmpty()) {
         log.warn("Token is null or empty");
-        return false;
+        return Optional.empty();
       }
 
       if (!isValidJwtFormat(token)) {
         log.warn("Invalid JWT format");
-        return false;
+        return Optional.empty();
       }
 
-      Claims claims = Jwts.parser()
-          .verifyWith(getSigningKey())
-          .build()
-          .parseSignedClaims(token)
-          .getPayload();
+      VerifiedToken verifiedToken = parse(token);
 
-      if (isTokenExpired(claims)) {
+      if (verifiedToken.isExpired()) {
         log.warn("Token expired");
-        return false;
+        return Optional.empty();
       }
 
-      return true;
+      return Optional.of(verifiedToken);
 
     } catch (JwtException | IllegalArgumentException ex) {
       log.error("Token validation error: {}", ex.getMessage());
-      return false;
+      return Optional.empty();
     }
   }
 
+  /**
+   * Validates the integrity and expiration of a JWT token
+   *
+   * @param token the JWT token to validate
+   * @return true if the token is valid and not expired, false otherwise
+   */
+  public boolean validateToken(String token) {
+    return verify(token).isPresent();
+  }
+
   private boolean isValidJwtFormat(String token) {
     String[] parts = token.split("\\.");
     return parts.length == 3;
   }
 
-  private boolean isTokenExpired(Claims claims) {
-    return claims.getExpiration() != null &&
-        claims.getExpiration().before(new Date());
+  /**
+   * Returns cached claims of the token or verifies its signature and caches the result
+   */
+  private VerifiedToken parse(String token) {
+    if (verifiedTokens == null) {
+      return toVerifiedToken(jwtParser.parseSignedClaims(token).getPayload());
+    }
+
+    VerifiedToken cached = verifiedTokens.getIfPresent(token);
+    if (cached != null) {
+      return cached;
+    }
+
+    VerifiedToken verifiedToken = toVerifiedToken(jwtParser.parseSignedClaims(token).getPayload());
+    if (verifiedToken.expiresAt() != null) {
+      verifiedTokens.put(token, verifiedToken);
+    }
+    return verifiedToken;
+  }
+
+  private VerifiedToken toVerifiedToken(Claims claims) {
+    Date expiration = claims.getExpiration();
+    return new VerifiedToken(
+        claims.getId(),
+        claims.getSubject(),
+        extractAuthorities(claims),
+        expiration != null ? expiration.toInstant() : null
+    );
+  }
+
+  private List<String> extractAuthorities(Claims claims) {
+    Object authorities = claims.get(AUTHORITIES_CLAIM);
+    if (!(authorities instanceof List<?> values)) {
+      return List.of();
+    }
+    return values.stream()
+        .map(String::valueOf)
+        .toList();
   }
 
   /**
@@ -126,12 +218,7 @@ public class JwtTokenProvider {
    * @throws JwtException if the token is invalid or cannot be parsed
    */
   public String getUsernameFromToken(String token) {
-    return Jwts.parser()
-        .verifyWith(getSigningKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload()
-        .getSubject();
+    return parse(token).subject();
   }
 
   /**
@@ -142,11 +229,11 @@ public class JwtTokenProvider {
    */
   public boolean isRefreshTokenExpiringSoon(String refreshToken) {
     try {
-      Date expiration = getExpirationDateFromToken(refreshToken);
-      Instant expirationInstant = expiration.toInstant();
-      Instant now = Instant.now();
-
-      Duration timeUntilExpiration = Duration.between(now, expirationInstant);
+      Instant expiresAt = parse(refreshToken).expiresAt();
+      if (expiresAt == null) {
+        return false;
+      }
+      Duration timeUntilExpiration = Duration.between(Instant.now(), expiresAt);
       Duration threshold = Duration.ofMinutes(30);
 
       return timeUntilExpiration.compareTo(threshold) <= 0;
@@ -157,36 +244,57 @@ public class JwtTokenProvider {
   }
 
   /**
-   * Extracts the expiration date from a JWT token.
+   * Extracts the list of authorities from a JWT token.
    *
    * @param token the JWT token to parse
-   * @return expiration date of the token
+   * @return list of authorities granted to the token subject
    * @throws JwtException if the token is invalid or cannot be parsed
    */
-  private Date getExpirationDateFromToken(String token) {
-    Claims claims = Jwts.parser()
-        .verifyWith(getSigningKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+  public List<String> getAuthoritiesFromToken(String token) {
+    return parse(token).authorities();
+  }
+
+  /**
+   * Resolves the verification key by the {@code kid} header; tokens without a key id are verified
+   * with the shared secret when one is configured
+   */
+  private class SigningKeyLocator extends LocatorAdapter<Key> {
 
-    return claims.getExpiration();
+    @Override
+    protected Key locate(JwsHeader header) {
+      String kid = header.getKeyId();
+      if (kid != null) {
+        return signingKeyRing.find(kid)
+            .map(SigningKey::publicKey)
+            .orElseThrow(() -> new JwtException("Unknown signing key id: " + kid));
+      }
+      if (hmacKey == null) {
+        throw new JwtException("Token has no key id");
+      }
+      return hmacKey;
+    }
   }
 
   /**
-   * Extracts the list of authorities from a JWT token.
-   *
-   * @param token the JWT token to parse
-   * @return list of authorities granted to the token subject
-   * @throws JwtException if the token is invalid or cannot be parsed
+   * Evicts a cached token exactly at its {@code exp} claim
    */
-  @SuppressWarnings("unchecked")
-  public List<String> getAuthoritiesFromToken(String token) {
-    return Jwts.parser()
-        .verifyWith(getSigningKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload()
-        .get("authorities", List.class);
+  private static class ExpireAtTokenExpiration implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
   }
-}
\ No newline at end of file
+}
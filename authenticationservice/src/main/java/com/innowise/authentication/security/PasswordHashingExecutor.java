@@ -0,0 +1,136 @@
+package com.innowise.authentication.security;
+
+import com.innowise.authentication.config.PasswordHashingProperties;
+import com.innowise.authentication.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs password hashing and verification on a dedicated, bounded thread pool so that a burst of
+ * logins cannot take every core away from the cheap token endpoints. When all workers are busy
+ * and the queue is full, requests fail fast with {@link PasswordHashingUnavailableException}.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+  private static final String LATENCY_METRIC = "auth.password.hash.latency";
+
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor executor;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter rejectedCounter;
+
+  public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+      PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+    this.passwordEncoder = passwordEncoder;
+    this.executor = new ThreadPoolExecutor(
+        properties.getWorkers(), properties.getWorkers(),
+        0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+        new HashingThreadFactory(),
+        new ThreadPoolExecutor.AbortPolicy());
+
+    this.encodeTimer = Timer.builder(LATENCY_METRIC)
+        .tag("operation", "encode")
+        .register(meterRegistry);
+    this.matchesTimer = Timer.builder(LATENCY_METRIC)
+        .tag("operation", "matches")
+        .register(meterRegistry);
+    this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+        .register(meterRegistry);
+    Gauge.builder("auth.password.hash.queue.depth", executor, e -> e.getQueue().size())
+        .register(meterRegistry);
+    Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Hashes a raw password on the hashing pool
+   *
+   * @param rawPassword the password to hash
+   * @return encoded password
+   */
+  public String encode(CharSequence rawPassword) {
+    return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+  }
+
+  /**
+   * Verifies a raw password against a stored hash on the hashing pool
+   *
+   * @param rawPassword     the password to check
+   * @param encodedPassword the stored hash
+   * @return true if the password matches
+   */
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(
+        () -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+  }
+
+  /**
+   * Checks whether a stored hash was produced with other parameters than the current target
+   *
+   * @param encodedPassword the stored hash
+   * @return true if the password should be re-hashed
+   */
+  public boolean upgradeEncoding(String encodedPassword) {
+    return passwordEncoder.upgradeEncoding(encodedPassword);
+  }
+
+  private <T> T execute(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException ex) {
+      rejectedCounter.increment();
+      log.warn("Password hashing queue is full, rejecting request");
+      throw new PasswordHashingUnavailableException("Authentication is temporarily overloaded");
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new PasswordHashingUnavailableException("Password hashing was interrupted");
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed", ex.getCause());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private static class HashingThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
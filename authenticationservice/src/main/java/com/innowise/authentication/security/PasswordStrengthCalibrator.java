@@ -0,0 +1,64 @@
+package com.innowise.authentication.security;
+
+import com.innowise.authentication.config.PasswordHashingProperties;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Measures BCrypt on the current host and picks the highest strength whose hash time fits into
+ * the configured latency budget
+ */
+@Slf4j
+public final class PasswordStrengthCalibrator {
+
+  private static final String SAMPLE_PASSWORD = "calibration-password";
+  private static final int SAMPLES = 3;
+
+  private PasswordStrengthCalibrator() {
+  }
+
+  /**
+   * @param properties password hashing settings
+   * @return calibrated strength, or the configured strength when calibration is disabled
+   */
+  public static int resolveStrength(PasswordHashingProperties properties) {
+    if (!properties.isCalibrate()) {
+      return properties.getStrength();
+    }
+
+    long budgetNanos = properties.getTargetLatency().toNanos();
+    int chosen = properties.getMinStrength();
+
+    for (int strength = properties.getMinStrength(); strength <= properties.getMaxStrength();
+        strength++) {
+      long nanos = measure(strength);
+      if (nanos > budgetNanos) {
+        break;
+      }
+      chosen = strength;
+      // every extra round doubles the cost, stop before measuring a value that cannot fit
+      if (nanos * 2 > budgetNanos) {
+        break;
+      }
+    }
+
+    log.info("Calibrated BCrypt strength {} for a {} ms budget", chosen,
+        properties.getTargetLatency().toMillis());
+    return chosen;
+  }
+
+  private static long measure(int strength) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+    String hash = encoder.encode(SAMPLE_PASSWORD);
+
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < SAMPLES; i++) {
+      long start = System.nanoTime();
+      encoder.matches(SAMPLE_PASSWORD, hash);
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    log.debug("BCrypt strength {} takes {} ms", strength, Duration.ofNanos(best).toMillis());
+    return best;
+  }
+}
@@ -0,0 +1,72 @@
+package com.innowise.authentication.security;
+
+import com.innowise.authentication.entity.RefreshToken;
+import com.innowise.authentication.repository.RefreshTokenRepository;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Registry of issued refresh tokens. The database is authoritative: rotation is a single
+ * conditional update in {@link #revoke(String)}, which checks and revokes the token in one
+ * statement and stays correct when another instance revoked it.
+ */
+@Slf4j
+@Component
+public class RefreshTokenRegistry {
+
+  private final RefreshTokenRepository refreshTokenRepository;
+
+  public RefreshTokenRegistry(RefreshTokenRepository refreshTokenRepository) {
+    this.refreshTokenRepository = refreshTokenRepository;
+  }
+
+  /**
+   * Stores a newly issued refresh token
+   *
+   * @param issuedToken the issued token
+   * @param login       login of the token owner
+   */
+  public void register(IssuedToken issuedToken, String login) {
+    RefreshToken refreshToken = new RefreshToken();
+    refreshToken.setJti(issuedToken.id());
+    refreshToken.setUserLogin(login);
+    refreshToken.setExpiresAt(issuedToken.expiresAt());
+    refreshTokenRepository.save(refreshToken);
+  }
+
+  /**
+   * Revokes an active token, used when it is rotated. Also rejects tokens revoked earlier
+   *
+   * @param jti token id
+   * @return false if the token is unknown or was already revoked
+   */
+  @Transactional
+  public boolean revoke(String jti) {
+    return refreshTokenRepository.revoke(jti) == 1;
+  }
+
+  /**
+   * Revokes every active token of the user in one statement
+   *
+   * @param login user login
+   */
+  @Transactional
+  public void revokeAll(String login) {
+    int revoked = refreshTokenRepository.revokeAllByUserLogin(login);
+    log.info("Revoked {} refresh tokens for login: {}", revoked, login);
+  }
+
+  /**
+   * Deletes expired tokens
+   */
+  @Scheduled(fixedDelayString = "#{@refreshTokenProperties.cleanupInterval.toMillis()}")
+  @Transactional
+  public void cleanup() {
+    Instant now = Instant.now();
+    int deleted = refreshTokenRepository.deleteExpired(now);
+    log.info("Refresh token registry cleaned up, deleted {} expired tokens", deleted);
+  }
+}
@@ -0,0 +1,19 @@
+package com.innowise.authentication.security;
+
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+
+/**
+ * Record representing an asymmetric signing key identified by its key id
+ */
+public record SigningKey(
+    String kid,
+    SignatureAlgorithm algorithm,
+    PrivateKey privateKey,
+    PublicKey publicKey,
+    PublicJwk<?> publicJwk
+) {
+
+}
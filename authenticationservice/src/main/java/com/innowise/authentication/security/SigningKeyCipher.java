@@ -0,0 +1,77 @@
+package com.innowise.authentication.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Encrypts private signing keys at rest with AES-GCM under the configured key encryption key.
+ * A stored value is the Base64 of a random nonce followed by the ciphertext; the key id is bound
+ * as associated data, so a value copied to another row does not decrypt.
+ */
+final class SigningKeyCipher {
+
+  private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+  private static final int NONCE_LENGTH = 12;
+  private static final int TAG_LENGTH_BITS = 128;
+
+  private final SecretKey key;
+  private final SecureRandom random = new SecureRandom();
+
+  /**
+   * @param encodedKey Base64 encoded 128, 192 or 256 bit AES key
+   */
+  SigningKeyCipher(String encodedKey) {
+    if (encodedKey == null || encodedKey.isBlank()) {
+      throw new IllegalStateException(
+          "jwt.signing.key-encryption-key is required for asymmetric signing");
+    }
+    byte[] keyBytes;
+    try {
+      keyBytes = Base64.getDecoder().decode(encodedKey);
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalStateException("jwt.signing.key-encryption-key must be Base64 encoded", ex);
+    }
+    if (keyBytes.length != 16 && keyBytes.length != 24 && keyBytes.length != 32) {
+      throw new IllegalStateException(
+          "jwt.signing.key-encryption-key must be a 128, 192 or 256 bit AES key");
+    }
+    this.key = new SecretKeySpec(keyBytes, "AES");
+  }
+
+  String encrypt(byte[] privateKey, String kid) {
+    byte[] nonce = new byte[NONCE_LENGTH];
+    random.nextBytes(nonce);
+    try {
+      byte[] ciphertext = cipher(Cipher.ENCRYPT_MODE, nonce, kid).doFinal(privateKey);
+      byte[] stored = Arrays.copyOf(nonce, NONCE_LENGTH + ciphertext.length);
+      System.arraycopy(ciphertext, 0, stored, NONCE_LENGTH, ciphertext.length);
+      return Base64.getEncoder().encodeToString(stored);
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Signing key " + kid + " could not be encrypted", ex);
+    }
+  }
+
+  byte[] decrypt(String storedKey, String kid) {
+    try {
+      byte[] stored = Base64.getDecoder().decode(storedKey);
+      return cipher(Cipher.DECRYPT_MODE, Arrays.copyOf(stored, NONCE_LENGTH), kid)
+          .doFinal(stored, NONCE_LENGTH, stored.length - NONCE_LENGTH);
+    } catch (GeneralSecurityException | IllegalArgumentException ex) {
+      throw new IllegalStateException("Signing key " + kid + " could not be decrypted", ex);
+    }
+  }
+
+  private Cipher cipher(int mode, byte[] nonce, String kid) throws GeneralSecurityException {
+    Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+    cipher.init(mode, key, new GCMParameterSpec(TAG_LENGTH_BITS, nonce));
+    cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+    return cipher;
+  }
+}
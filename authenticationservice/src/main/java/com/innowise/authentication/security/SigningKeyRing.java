@@ -0,0 +1,195 @@
+package com.innowise.authentication.security;
+
+import com.innowise.authentication.config.JwtSigningProperties;
+import com.innowise.authentication.entity.JwtSigningKey;
+import com.innowise.authentication.repository.JwtSigningKeyRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Holds the current asymmetric signing key and the previous keys still accepted for verification.
+ * Keys are stored in the database, private parts encrypted, so tokens survive restarts and every
+ * instance signs with the same ring. Keys are loaded once the application is ready and rotated on
+ * a fixed interval under a table lock, so instances rotating together store a single new key.
+ * Public parts are exposed as a JWK set.
+ */
+@Slf4j
+@Component
+public class SigningKeyRing {
+
+  private static final String HS256 = "HS256";
+  private static final String RS256 = "RS256";
+  private static final String EDDSA = "EdDSA";
+
+  private final JwtSigningProperties signingProperties;
+  private final JwtSigningKeyRepository signingKeyRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final SigningKeyCipher cipher;
+  private volatile List<SigningKey> keys = List.of();
+
+  public SigningKeyRing(JwtSigningProperties signingProperties,
+      JwtSigningKeyRepository signingKeyRepository, TransactionTemplate transactionTemplate) {
+    this.signingProperties = signingProperties;
+    this.signingKeyRepository = signingKeyRepository;
+    this.transactionTemplate = transactionTemplate;
+
+    String algorithm = signingProperties.getAlgorithm();
+    if (!HS256.equals(algorithm) && !RS256.equals(algorithm) && !EDDSA.equals(algorithm)) {
+      throw new IllegalStateException("Unsupported jwt.signing.algorithm: " + algorithm);
+    }
+    this.cipher = isEnabled() ? new SigningKeyCipher(signingProperties.getKeyEncryptionKey())
+        : null;
+  }
+
+  /**
+   * @return true if tokens are signed with an asymmetric key from this ring
+   */
+  public boolean isEnabled() {
+    return !HS256.equals(signingProperties.getAlgorithm());
+  }
+
+  /**
+   * @return key used to sign new tokens
+   */
+  public SigningKey current() {
+    List<SigningKey> loaded = keys;
+    if (loaded.isEmpty()) {
+      throw new IllegalStateException("JWT signing keys are not loaded yet");
+    }
+    return loaded.get(0);
+  }
+
+  /**
+   * Finds a current or retained key by its id
+   *
+   * @param kid the key id from the token header
+   * @return the signing key, or empty if it is unknown or already retired
+   */
+  public Optional<SigningKey> find(String kid) {
+    return keys.stream()
+        .filter(key -> key.kid().equals(kid))
+        .findFirst();
+  }
+
+  /**
+   * Reloads the stored keys and, once the current key is older than the rotation interval,
+   * stores a new signing key and retires keys beyond the retention limit. Runs once the
+   * application is ready and then on a schedule.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${jwt.signing.key-refresh-interval:PT1M}",
+      initialDelayString = "${jwt.signing.key-refresh-interval:PT1M}")
+  public void rotate() {
+    if (!isEnabled()) {
+      return;
+    }
+
+    List<JwtSigningKey> stored = loadStoredKeys();
+    if (stored.isEmpty() || isRotationDue(stored.get(0))) {
+      stored = transactionTemplate.execute(status -> rotateLocked());
+    }
+
+    keys = stored.stream()
+        .map(this::toSigningKey)
+        .toList();
+  }
+
+  /**
+   * @return public keys of the ring serialized as a JWK set
+   */
+  public String toJwksJson() {
+    return keys.stream()
+        .map(key -> Jwks.json(key.publicJwk()))
+        .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+  }
+
+  private List<JwtSigningKey> loadStoredKeys() {
+    return signingKeyRepository.findByAlgorithmOrderByCreatedAtDesc(
+        signingProperties.getAlgorithm(), Limit.of(signingProperties.getRetainedKeys() + 1));
+  }
+
+  /**
+   * Rotates while holding the table lock. An instance that waited for the lock finds the key
+   * stored by the one that held it and keeps it instead of storing another.
+   */
+  private List<JwtSigningKey> rotateLocked() {
+    signingKeyRepository.lockForRotation();
+    List<JwtSigningKey> stored = loadStoredKeys();
+    if (!stored.isEmpty() && !isRotationDue(stored.get(0))) {
+      return stored;
+    }
+
+    JwtSigningKey newKey = signingKeyRepository.save(generateKey());
+    stored = loadStoredKeys();
+    signingKeyRepository.deleteRetired(signingProperties.getAlgorithm(),
+        stored.stream().map(JwtSigningKey::getKid).toList());
+    log.info("JWT signing key rotated, current kid: {}", newKey.getKid());
+    return stored;
+  }
+
+  private boolean isRotationDue(JwtSigningKey currentKey) {
+    return !currentKey.getCreatedAt()
+        .plus(signingProperties.getRotationInterval())
+        .isAfter(Instant.now());
+  }
+
+  private JwtSigningKey generateKey() {
+    boolean rsa = RS256.equals(signingProperties.getAlgorithm());
+    KeyPair keyPair = rsa ? Jwts.SIG.RS256.keyPair().build() : Jwks.CRV.Ed25519.keyPair().build();
+    SignatureAlgorithm algorithm = rsa ? Jwts.SIG.RS256 : Jwts.SIG.EdDSA;
+    String kid = publicJwk(keyPair, algorithm).getId();
+
+    return new JwtSigningKey(kid, signingProperties.getAlgorithm(),
+        cipher.encrypt(keyPair.getPrivate().getEncoded(), kid),
+        Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()), Instant.now());
+  }
+
+  private SigningKey toSigningKey(JwtSigningKey stored) {
+    boolean rsa = RS256.equals(stored.getAlgorithm());
+    SignatureAlgorithm algorithm = rsa ? Jwts.SIG.RS256 : Jwts.SIG.EdDSA;
+    Base64.Decoder decoder = Base64.getDecoder();
+
+    KeyPair keyPair;
+    try {
+      KeyFactory keyFactory = KeyFactory.getInstance(rsa ? "RSA" : "Ed25519");
+      keyPair = new KeyPair(
+          keyFactory.generatePublic(
+              new X509EncodedKeySpec(decoder.decode(stored.getPublicKey()))),
+          keyFactory.generatePrivate(
+              new PKCS8EncodedKeySpec(cipher.decrypt(stored.getPrivateKey(), stored.getKid()))));
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Stored signing key " + stored.getKid() + " is invalid", ex);
+    }
+
+    PublicJwk<?> publicJwk = publicJwk(keyPair, algorithm);
+    return new SigningKey(publicJwk.getId(), algorithm, keyPair.getPrivate(),
+        keyPair.getPublic(), publicJwk);
+  }
+
+  private PublicJwk<?> publicJwk(KeyPair keyPair, SignatureAlgorithm algorithm) {
+    return Jwks.builder()
+        .key(keyPair.getPublic())
+        .algorithm(algorithm.getId())
+        .idFromThumbprint()
+        .build();
+  }
+}
@@ -0,0 +1,19 @@
+package com.innowise.authentication.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Record representing the claims of a JWT token whose signature has already been verified
+ */
+public record VerifiedToken(
+    String id,
+    String subject,
+    List<String> authorities,
+    Instant expiresAt
+) {
+
+  public boolean isExpired() {
+    return expiresAt != null && expiresAt.isBefore(Instant.now());
+  }
+}
@@ -37,7 +37,7 @@ public interface UserCredentialsService {
 
   /**
    * Refreshes the access token using a valid refresh token. Generates a new access token and
-   * optionally rotates the refresh token if it's expiring soon.
+   * rotates the refresh token; the presented one is revoked.
    *
    * @param request the refresh token request containing a valid refresh token
    * @return TokenResponse containing new access token and refresh token
@@ -52,6 +52,21 @@ public interface UserCredentialsService {
    */
   TokenValidationResponse validateToken(String token);
 
+  /**
+   * Returns the public keys that verify issued tokens
+   *
+   * @return JWK set as JSON
+   */
+  String getJwks();
+
+  /**
+   * Find user credentials by identifier, the data a deletion of the user removes
+   *
+   * @param userId user identifier
+   * @return credentials with roles
+   */
+  UserCredentialsDataRecovery getUserCredentials(String userId);
+
   /**
    * Delete user by identifier
    *
@@ -1,5 +1,6 @@
 package com.innowise.authentication.service.impl;
 
+import com.innowise.authentication.cache.UserRolesCache;
 import com.innowise.authentication.dto.AuthCreateRequest;
 import com.innowise.authentication.dto.LoginRequest;
 import com.innowise.authentication.dto.LoginResponse;
@@ -15,17 +16,24 @@ import com.innowise.authentication.exception.UserNotFoundException;
 import com.innowise.authentication.mapper.UserRoleMapper;
 import com.innowise.authentication.repository.UserCredentialsRepository;
 import com.innowise.authentication.repository.UserRoleRepository;
+import com.innowise.authentication.security.IssuedToken;
 import com.innowise.authentication.security.JwtTokenProvider;
+import com.innowise.authentication.security.PasswordHashingExecutor;
+import com.innowise.authentication.security.RefreshTokenRegistry;
+import com.innowise.authentication.security.VerifiedToken;
 import com.innowise.authentication.service.UserCredentialsService;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Password hashing runs outside of any transaction, so a request waiting for a hashing worker
+ * never holds a database connection.
+ */
 @Service
-@Transactional
 @Slf4j
 public class UserCredentialsServiceImpl implements UserCredentialsService {
 
@@ -33,38 +41,54 @@ public class UserCredentialsServiceImpl implements UserCredentialsService {
   private static final String USER_NOT_FOUND = "User not found with id: ";
   private final UserCredentialsRepository userCredentialsRepository;
   private final UserRoleRepository userRoleRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingExecutor passwordHashingExecutor;
   private final JwtTokenProvider jwtTokenProvider;
   private final UserRoleMapper userRoleMapper;
+  private final RefreshTokenRegistry refreshTokenRegistry;
+  private final UserRolesCache userRolesCache;
+  private final TransactionTemplate transactionTemplate;
 
   public UserCredentialsServiceImpl(UserCredentialsRepository userCredentialsRepository,
       UserRoleRepository userRoleRepository,
-      PasswordEncoder passwordEncoder,
+      PasswordHashingExecutor passwordHashingExecutor,
       JwtTokenProvider jwtTokenProvider,
-      UserRoleMapper userRoleMapper) {
+      UserRoleMapper userRoleMapper,
+      RefreshTokenRegistry refreshTokenRegistry,
+      UserRolesCache userRolesCache,
+      TransactionTemplate transactionTemplate) {
     this.userCredentialsRepository = userCredentialsRepository;
     this.userRoleRepository = userRoleRepository;
-    this.passwordEncoder = passwordEncoder;
+    this.passwordHashingExecutor = passwordHashingExecutor;
     this.jwtTokenProvider = jwtTokenProvider;
     this.userRoleMapper = userRoleMapper;
+    this.refreshTokenRegistry = refreshTokenRegistry;
+    this.userRolesCache = userRolesCache;
+    this.transactionTemplate = transactionTemplate;
   }
 
   @Override
   public LoginResponse login(LoginRequest loginRequest) {
     log.info("Login attempt for user: {}", loginRequest.login());
 
-    UserCredentials user = userCredentialsRepository.findByLoginWithRoles(loginRequest.login())
+    UserCredentials user = userCredentialsRepository.findByLogin(loginRequest.login())
         .orElseThrow(() -> new RuntimeException("User not found"));
 
-    if (!passwordEncoder.matches(loginRequest.password(), user.getPasswordHash())) {
+    if (!passwordHashingExecutor.matches(loginRequest.password(), user.getPasswordHash())) {
       throw new RuntimeException("Invalid password");
     }
 
-    List<String> authorities = user.getRolesAsStrings();
+    if (passwordHashingExecutor.upgradeEncoding(user.getPasswordHash())) {
+      user.setPasswordHash(passwordHashingExecutor.encode(loginRequest.password()));
+      userCredentialsRepository.save(user);
+      log.info("Password hash upgraded for user: {}", loginRequest.login());
+    }
+
+    List<String> authorities = userRolesCache.getRoles(loginRequest.login());
     String accessToken = jwtTokenProvider.generateAccessToken(loginRequest.login(), authorities);
-    String refreshToken = jwtTokenProvider.generateRefreshToken(loginRequest.login());
+    IssuedToken refreshToken = jwtTokenProvider.generateRefreshToken(loginRequest.login());
+    refreshTokenRegistry.register(refreshToken, loginRequest.login());
 
-    return new LoginResponse(accessToken, refreshToken);
+    return new LoginResponse(accessToken, refreshToken.token());
   }
 
   @Override
@@ -79,18 +103,22 @@ public class UserCredentialsServiceImpl implements UserCredentialsService {
     UserCredentials credentials = new UserCredentials();
     credentials.setUuid(request.uuid());
     credentials.setLogin(request.login());
-    credentials.setPasswordHash(passwordEncoder.encode(request.password()));
+    credentials.setPasswordHash(passwordHashingExecutor.encode(request.password()));
 
     UserRole userRole = new UserRole();
     userRole.setUserLogin(request.login());
     userRole.setRole(ROLE);
 
-    userCredentialsRepository.save(credentials);
-    userRoleRepository.save(userRole);
+    transactionTemplate.executeWithoutResult(status -> {
+      userCredentialsRepository.save(credentials);
+      userRoleRepository.save(userRole);
+    });
+    userRolesCache.invalidate(request.login());
     log.info("User credentials created for login: {}", request.login());
   }
 
   @Override
+  @Transactional
   public void recoveryUserCredentials(UserCredentialsDataRecovery request) {
     log.info("User recovery credentials with id: {}, login: {}", request.uuid(), request.login());
 
@@ -118,6 +146,7 @@ public class UserCredentialsServiceImpl implements UserCredentialsService {
 
     userCredentialsRepository.save(credentials);
     userRoleRepository.saveAll(userRoles);
+    userRolesCache.invalidate(request.login());
     log.info("Recovering user`s credentials was successful, for login: {}", request.login());
   }
 
@@ -125,49 +154,70 @@ public class UserCredentialsServiceImpl implements UserCredentialsService {
   public TokenValidationResponse validateToken(String token) {
     log.info("Token validation request");
 
-    boolean isValid = jwtTokenProvider.validateToken(token);
-
-    TokenValidationResponse response = new TokenValidationResponse(isValid, null, null);
+    return jwtTokenProvider.verify(token)
+        .map(verified -> new TokenValidationResponse(true, verified.subject(),
+            verified.authorities()))
+        .orElseGet(() -> new TokenValidationResponse(false, null, null));
+  }
 
-    if (isValid) {
-      String username = jwtTokenProvider.getUsernameFromToken(token);
-      List<String> authorities = jwtTokenProvider.getAuthoritiesFromToken(token);
-      response = response.withUsername(username).withAuthorities(authorities);
-    }
-    return response;
+  @Override
+  public String getJwks() {
+    return jwtTokenProvider.getJwks();
   }
 
   @Override
   public LoginResponse refreshToken(RefreshTokenRequest request) {
     log.info("Refresh token request");
 
-    if (jwtTokenProvider.validateToken(request.refreshToken())) {
-      String username = jwtTokenProvider.getUsernameFromToken(request.refreshToken());
-
-      List<String> authorities = List.of(ROLE);
+    VerifiedToken verified = jwtTokenProvider.verify(request.refreshToken())
+        .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+
+    // Revoking the old token and registering the new one commit together, so a failure in
+    // between neither burns the old token nor leaves the client without a usable one
+    return transactionTemplate.execute(status -> {
+      if (verified.id() == null || !refreshTokenRegistry.revoke(verified.id())) {
+        throw new InvalidTokenException("Refresh token is revoked or unknown");
+      }
+      String username = verified.subject();
+
+      List<String> authorities = userRolesCache.getRoles(username);
+      if (authorities.isEmpty()) {
+        throw new InvalidTokenException("User of the refresh token has no roles");
+      }
       String newAccessToken = jwtTokenProvider.generateAccessToken(username, authorities);
 
-      String newRefreshToken = jwtTokenProvider.isRefreshTokenExpiringSoon(request.refreshToken())
-          ? jwtTokenProvider.generateRefreshToken(username)
-          : request.refreshToken();
+      IssuedToken newRefreshToken = jwtTokenProvider.generateRefreshToken(username);
+      refreshTokenRegistry.register(newRefreshToken, username);
 
-      return new LoginResponse(newAccessToken, newRefreshToken);
-    } else {
-      throw new InvalidTokenException("Invalid refresh token");
-    }
+      return new LoginResponse(newAccessToken, newRefreshToken.token());
+    });
   }
 
   @Override
+  @Transactional
   public UserCredentialsDataRecovery deleteUser(String userId) {
     UserCredentials user = findUserById(userId);
+    UserCredentialsDataRecovery credentials = toDataRecovery(userId, user);
 
+    userCredentialsRepository.delete(user);
+    refreshTokenRegistry.revokeAll(user.getLogin());
+    userRolesCache.invalidate(user.getLogin());
+
+    return credentials;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public UserCredentialsDataRecovery getUserCredentials(String userId) {
+    return toDataRecovery(userId, findUserById(userId));
+  }
+
+  private UserCredentialsDataRecovery toDataRecovery(String userId, UserCredentials user) {
     List<UserRoleDTO> userRoles = userRoleRepository.findAllByUserLogin(user.getLogin())
         .stream()
         .map(userRoleMapper::toUserRoleDTO)
         .toList();
 
-    userCredentialsRepository.delete(user);
-
     return new UserCredentialsDataRecovery(
         userId,
         user.getPasswordHash(),
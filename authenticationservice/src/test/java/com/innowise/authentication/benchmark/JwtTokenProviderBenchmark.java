@@ -0,0 +1,80 @@
+package com.innowise.authentication.benchmark;
+
+import com.innowise.authentication.config.JwtSigningProperties;
+import com.innowise.authentication.security.JwtTokenProvider;
+import com.innowise.authentication.security.SigningKeyRing;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH comparison of token validation as done by /api/v1/auth/validate: the previous path that
+ * parsed the token three times with a freshly built key, a single parse, and a cached parse.
+ * Run the main method from the test classpath after {@code mvn test-compile}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+  private JwtTokenProvider uncachedProvider;
+  private JwtTokenProvider cachedProvider;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    SigningKeyRing hmacOnly = new SigningKeyRing(new JwtSigningProperties(), null, null);
+    uncachedProvider = new JwtTokenProvider(SECRET, 3_600_000, 86_400_000, 0, hmacOnly);
+    cachedProvider = new JwtTokenProvider(SECRET, 3_600_000, 86_400_000, 1024, hmacOnly);
+    token = cachedProvider.generateAccessToken("benchmark-user", List.of("ROLE_USER"));
+  }
+
+  @Benchmark
+  public void previousTripleParse(Blackhole blackhole) {
+    for (int i = 0; i < 3; i++) {
+      blackhole.consume(Jwts.parser()
+          .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+          .build()
+          .parseSignedClaims(token)
+          .getPayload());
+    }
+  }
+
+  @Benchmark
+  public void singleParse(Blackhole blackhole) {
+    blackhole.consume(uncachedProvider.verify(token));
+  }
+
+  @Benchmark
+  public void cachedParse(Blackhole blackhole) {
+    blackhole.consume(cachedProvider.verify(token));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(JwtTokenProviderBenchmark.class.getSimpleName())
+        .build())
+        .run();
+  }
+}
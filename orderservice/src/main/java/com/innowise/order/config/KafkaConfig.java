@@ -1,7 +1,9 @@
 package com.innowise.order.config;
 
 import com.innowise.order.dto.kafka.PaymentProcessedEvent;
+import com.innowise.order.dto.kafka.UserEvent;
 import com.innowise.order.properties.KafkaProperties;
+import com.innowise.order.properties.OutboxProperties;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.kafka.clients.admin.AdminClientConfig;
@@ -14,6 +16,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
@@ -30,11 +33,15 @@ import org.springframework.kafka.support.serializer.JsonSerializer;
 @EnableConfigurationProperties(KafkaProperties.class)
 public class KafkaConfig {
 
+  public static final String OUTBOX_KAFKA_TEMPLATE = "outboxKafkaTemplate";
+
   private final KafkaProperties kafkaProperties;
+  private final OutboxProperties outboxProperties;
 
 
-  public KafkaConfig(KafkaProperties kafkaProperties) {
+  public KafkaConfig(KafkaProperties kafkaProperties, OutboxProperties outboxProperties) {
     this.kafkaProperties = kafkaProperties;
+    this.outboxProperties = outboxProperties;
   }
 
   @Bean
@@ -42,6 +49,15 @@ public class KafkaConfig {
     return new KafkaTemplate<>(producerFactory());
   }
 
+  /**
+   * Template the outbox relay publishes with. Payloads are already serialized JSON, and the
+   * producer lingers to send each relayed batch in a few broker requests.
+   */
+  @Bean(OUTBOX_KAFKA_TEMPLATE)
+  public KafkaTemplate<String, String> outboxKafkaTemplate() {
+    return new KafkaTemplate<>(outboxProducerFactory());
+  }
+
   @Bean
   public KafkaAdmin kafkaAdmin() {
     Map<String, Object> configs = new HashMap<>();
@@ -77,6 +93,19 @@ public class KafkaConfig {
     );
   }
 
+  /**
+   * Compacted, so the topic keeps the latest event of every user and can be replayed to rebuild
+   * the user existence index
+   */
+  @Bean
+  public NewTopic userEventsTopic() {
+    return TopicBuilder.name(kafkaProperties.getTopics().getUserEvents())
+        .partitions(1)
+        .replicas(1)
+        .compact()
+        .build();
+  }
+
   @Bean
   public ProducerFactory<String, Object> producerFactory() {
     Map<String, Object> configProps = new HashMap<>();
@@ -92,6 +121,21 @@ public class KafkaConfig {
     return new DefaultKafkaProducerFactory<>(configProps);
   }
 
+  @Bean
+  public ProducerFactory<String, String> outboxProducerFactory() {
+    Map<String, Object> configProps = new HashMap<>();
+    configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, getBootstrapServers());
+    configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+    configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    configProps.put(ProducerConfig.LINGER_MS_CONFIG, outboxProperties.getLinger().toMillis());
+    configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, outboxProperties.getProducerBatchSize());
+    configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+
+    return new DefaultKafkaProducerFactory<>(configProps);
+  }
+
   @Bean
   public ConsumerFactory<String, PaymentProcessedEvent> paymentProcessedConsumerFactory() {
     Map<String, Object> configProps = new HashMap<>();
@@ -117,6 +161,35 @@ public class KafkaConfig {
     return factory;
   }
 
+  /**
+   * Consumer for user events. Every instance reads the topic from the beginning under its own
+   * group, since each one keeps its own index.
+   */
+  @Bean
+  public ConsumerFactory<String, UserEvent> userEventConsumerFactory() {
+    Map<String, Object> configProps = new HashMap<>();
+    configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, getBootstrapServers());
+    configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+
+    configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+    configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+
+    return new DefaultKafkaConsumerFactory<>(configProps,
+        new StringDeserializer(),
+        new JsonDeserializer<>(UserEvent.class));
+  }
+
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, UserEvent>
+  userEventKafkaListenerContainerFactory() {
+    ConcurrentKafkaListenerContainerFactory<String, UserEvent> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(userEventConsumerFactory());
+    return factory;
+  }
+
   private String getBootstrapServers() {
     return kafkaProperties != null && kafkaProperties.getBootstrapServers() != null
         ? kafkaProperties.getBootstrapServers()
@@ -1,11 +1,19 @@
 package com.innowise.order.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.innowise.order.dto.BulkOrderResult;
 import com.innowise.order.dto.CreateOrderRequest;
 import com.innowise.order.dto.OrderDTO;
+import com.innowise.order.dto.PageResponse;
 import com.innowise.order.enums.OrderStatus;
 import com.innowise.order.service.OrderService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,6 +24,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for managing order operations.
@@ -26,9 +35,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
 
   private final OrderService orderService;
+  private final ObjectMapper objectMapper;
 
-  public OrderController(OrderService orderService) {
+  public OrderController(OrderService orderService, ObjectMapper objectMapper) {
     this.orderService = orderService;
+    this.objectMapper = objectMapper;
   }
 
   @PostMapping
@@ -37,6 +48,16 @@ public class OrderController {
     return ResponseEntity.status(HttpStatus.CREATED).body(order);
   }
 
+  /**
+   * Creates orders in bulk, the result of every order is reported in request order
+   */
+  @PostMapping("/bulk")
+  public ResponseEntity<List<BulkOrderResult>> createOrders(
+      @RequestBody List<CreateOrderRequest> requests) {
+    List<BulkOrderResult> results = orderService.createOrders(requests);
+    return ResponseEntity.ok(results);
+  }
+
   @GetMapping("/{id}")
   public ResponseEntity<OrderDTO> getOrderById(@PathVariable Long id) {
     OrderDTO order = orderService.getOrderById(id);
@@ -56,6 +77,43 @@ public class OrderController {
     return ResponseEntity.ok(orders);
   }
 
+  /**
+   * Returns one page of orders, {@code after} is the cursor returned with the previous page
+   */
+  @GetMapping(value = "/status", params = "limit")
+  public ResponseEntity<PageResponse<OrderDTO>> getOrdersPageByStatuses(
+      @RequestParam List<OrderStatus> statuses,
+      @RequestParam(required = false) String after,
+      @RequestParam int limit) {
+    PageResponse<OrderDTO> page = orderService.getOrdersPageByStatuses(statuses, after, limit);
+    return ResponseEntity.ok(page);
+  }
+
+  /**
+   * Streams orders as newline-delimited JSON, so memory use does not grow with the result size
+   */
+  @GetMapping(value = "/status", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamOrdersByStatuses(
+      @RequestParam List<OrderStatus> statuses) {
+    StreamingResponseBody body = outputStream -> {
+      try (SequenceWriter writer = objectMapper.writer()
+          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+          .withRootValueSeparator("\n")
+          .writeValues(outputStream)) {
+        orderService.streamOrdersByStatuses(statuses, order -> {
+          try {
+            writer.write(order);
+          } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+          }
+        });
+      }
+    };
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+
   @PatchMapping("/{id}/status")
   public ResponseEntity<OrderDTO> updateOrderStatus(@PathVariable Long id,
       @RequestParam OrderStatus status) {
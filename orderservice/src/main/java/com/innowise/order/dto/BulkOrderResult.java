@@ -0,0 +1,22 @@
+package com.innowise.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one order of a bulk creation request, {@code index} is its position in the request
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkOrderResult(
+    int index,
+    OrderDTO order,
+    String error
+) {
+
+  public static BulkOrderResult created(int index, OrderDTO order) {
+    return new BulkOrderResult(index, order, null);
+  }
+
+  public static BulkOrderResult failed(int index, String error) {
+    return new BulkOrderResult(index, null, error);
+  }
+}
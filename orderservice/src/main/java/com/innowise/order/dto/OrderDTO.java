@@ -10,10 +10,15 @@ import java.util.List;
  * DTO representing an Order for API responses
  */
 public record OrderDTO(
+    Long id,
     @NotBlank String userId,
     @NotNull OrderStatus status,
     @NotNull LocalDateTime creationDate,
     List<OrderItemDTO> orderItems
 ) {
 
+  public OrderDTO(String userId, OrderStatus status, LocalDateTime creationDate,
+      List<OrderItemDTO> orderItems) {
+    this(null, userId, status, creationDate, orderItems);
+  }
 }
\ No newline at end of file
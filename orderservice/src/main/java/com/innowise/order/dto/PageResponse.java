@@ -0,0 +1,16 @@
+package com.innowise.order.dto;
+
+import java.util.List;
+
+/**
+ * DTO representing one page of a keyset-paginated list, as described in
+ * docs/keyset-pagination.md
+ *
+ * @param <T> item type
+ */
+public record PageResponse<T>(
+    List<T> items,
+    String next
+) {
+
+}
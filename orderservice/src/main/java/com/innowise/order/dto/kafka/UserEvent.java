@@ -0,0 +1,20 @@
+package com.innowise.order.dto.kafka;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * User Event published by user-service when a user is created or deleted
+ */
+@Setter
+@Getter
+public class UserEvent {
+
+  private String userId;
+  private Type type;
+
+  public enum Type {
+    CREATED,
+    DELETED
+  }
+}
@@ -9,7 +9,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -24,7 +26,8 @@ import org.hibernate.annotations.CreationTimestamp;
  * Entity class representing a customer order
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders",
+    indexes = @Index(name = "idx_orders_status_id", columnList = "status, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,7 +35,8 @@ import org.hibernate.annotations.CreationTimestamp;
 public class Order {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+  @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
   private Long id;
 
   @Column(name = "user_id", nullable = false)
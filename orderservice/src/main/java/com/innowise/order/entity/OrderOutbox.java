@@ -0,0 +1,51 @@
+package com.innowise.order.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * Entity class representing an event written together with the order it belongs to and not yet
+ * published to Kafka
+ */
+@Entity
+@Table(name = "order_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderOutbox {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_outbox_seq")
+  @SequenceGenerator(name = "order_outbox_seq", sequenceName = "order_outbox_seq",
+      allocationSize = 50)
+  private Long id;
+
+  @Column(name = "topic", nullable = false)
+  private String topic;
+
+  @Column(name = "event_key", nullable = false)
+  private String eventKey;
+
+  @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  public OrderOutbox(String topic, String eventKey, String payload) {
+    this.topic = topic;
+    this.eventKey = eventKey;
+    this.payload = payload;
+  }
+}
@@ -1,37 +1,74 @@
 package com.innowise.order.kafka;
 
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.innowise.order.dto.kafka.OrderCreatedEvent;
+import com.innowise.order.entity.OrderOutbox;
+import com.innowise.order.repository.OrderOutboxRepository;
 import com.innowise.order.service.OrderService;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.JacksonUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 public class OrderEventService {
 
-  private final KafkaTemplate<String, Object> kafkaTemplate;
   private static final String ORDER_CREATED_TOPIC = "order-created";
+  private static final ObjectMapper OBJECT_MAPPER = JacksonUtils.enhancedObjectMapper();
+  private final OrderOutboxRepository orderOutboxRepository;
   private final OrderService orderService;
 
-  public OrderEventService(KafkaTemplate<String, Object> kafkaTemplate, OrderService orderService) {
-    this.kafkaTemplate = kafkaTemplate;
+  public OrderEventService(OrderOutboxRepository orderOutboxRepository,
+      OrderService orderService) {
+    this.orderOutboxRepository = orderOutboxRepository;
     this.orderService = orderService;
   }
 
+  /**
+   * Writes the order_created event to the outbox. Called in the transaction that creates the
+   * order, the event is published by {@link OrderOutboxRelay} if and only if the order commits.
+   */
+  @Transactional
   public void sendOrderCreatedEvent(Long orderId, String userId, BigDecimal amount,
       LocalDateTime createdAt) {
     OrderCreatedEvent event = new OrderCreatedEvent(orderId, userId, amount, createdAt);
 
-    log.info("Send event order_created_event to paymentService with orderId : {}", orderId);
-    kafkaTemplate.send(ORDER_CREATED_TOPIC, String.valueOf(orderId), event);
+    log.info("Save event order_created_event to outbox with orderId : {}", orderId);
+    orderOutboxRepository.save(
+        new OrderOutbox(ORDER_CREATED_TOPIC, String.valueOf(orderId), toJson(event)));
+  }
+
+  /**
+   * Writes order_created events of orders created together to the outbox in one batch
+   */
+  @Transactional
+  public void sendOrderCreatedEvents(List<OrderCreatedEvent> events) {
+    log.info("Save {} order_created_event events to outbox", events.size());
+    orderOutboxRepository.saveAll(events.stream()
+        .map(event -> new OrderOutbox(ORDER_CREATED_TOPIC, String.valueOf(event.getOrderId()),
+            toJson(event)))
+        .toList());
   }
 
   public void processPaymentEvent(Long orderId, String paymentStatus) {
     orderService.updateOrderStatus(orderId, paymentStatus);
     log.info("Successfully updated order status: orderId={}, status={}", orderId, paymentStatus);
   }
-}
\ No newline at end of file
+
+  /**
+   * Serializes the event the same way the Kafka JsonSerializer does
+   */
+  private static String toJson(Object event) {
+    try {
+      return OBJECT_MAPPER.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize event " + event, e);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.innowise.order.kafka;
+
+import com.innowise.order.config.KafkaConfig;
+import com.innowise.order.entity.OrderOutbox;
+import com.innowise.order.properties.OutboxProperties;
+import com.innowise.order.repository.OrderOutboxRepository;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Publishes the events written to the order outbox. Rows are locked in batches with SKIP LOCKED,
+ * so several instances can relay in parallel, sent to Kafka together and deleted in bulk once
+ * every send is acknowledged. A failed batch stays in the outbox and is sent again, so events are
+ * delivered at least once.
+ */
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+  private final OrderOutboxRepository orderOutboxRepository;
+  private final KafkaTemplate<String, String> kafkaTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final OutboxProperties outboxProperties;
+
+  public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+      @Qualifier(KafkaConfig.OUTBOX_KAFKA_TEMPLATE) KafkaTemplate<String, String> kafkaTemplate,
+      TransactionTemplate transactionTemplate, OutboxProperties outboxProperties) {
+    this.orderOutboxRepository = orderOutboxRepository;
+    this.kafkaTemplate = kafkaTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.outboxProperties = outboxProperties;
+  }
+
+  /**
+   * Publishes outbox batches until the outbox is drained
+   */
+  @Scheduled(fixedDelayString = "#{@outboxProperties.pollInterval.toMillis()}")
+  public void relay() {
+    try {
+      Integer published;
+      do {
+        published = transactionTemplate.execute(status -> publishBatch());
+      } while (published != null && published == outboxProperties.getBatchSize());
+    } catch (RuntimeException e) {
+      log.error("Failed to relay order outbox, the batch will be retried", e);
+    }
+  }
+
+  /**
+   * Publishes one batch of outbox rows and deletes them, must run in a transaction
+   *
+   * @return number of published rows
+   */
+  public int publishBatch() {
+    List<OrderOutbox> batch = orderOutboxRepository.lockBatch(outboxProperties.getBatchSize());
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    CompletableFuture<?>[] sends = batch.stream()
+        .map(event -> kafkaTemplate.send(event.getTopic(), event.getEventKey(), event.getPayload()))
+        .toArray(CompletableFuture[]::new);
+    kafkaTemplate.flush();
+    awaitAcks(sends);
+
+    orderOutboxRepository.deleteAllByIdInBatch(batch.stream()
+        .map(OrderOutbox::getId)
+        .toList());
+    log.debug("Relayed {} order outbox events", batch.size());
+    return batch.size();
+  }
+
+  private void awaitAcks(CompletableFuture<?>[] sends) {
+    try {
+      CompletableFuture.allOf(sends)
+          .get(outboxProperties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while relaying order outbox", e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new IllegalStateException("Kafka did not acknowledge order outbox batch", e);
+    }
+  }
+}
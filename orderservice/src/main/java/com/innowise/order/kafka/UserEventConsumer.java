@@ -0,0 +1,40 @@
+package com.innowise.order.kafka;
+
+
+import com.innowise.order.dto.kafka.UserEvent;
+import com.innowise.order.service.UserExistenceIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka consumer component feeding user events into the {@link UserExistenceIndex}
+ */
+@Slf4j
+@Component
+public class UserEventConsumer {
+
+  private final UserExistenceIndex userExistenceIndex;
+
+  public UserEventConsumer(UserExistenceIndex userExistenceIndex) {
+    this.userExistenceIndex = userExistenceIndex;
+  }
+
+  @KafkaListener(
+      topics = "${spring.kafka.topics.user-events}",
+      groupId = "orders-users-${random.uuid}",
+      containerFactory = "userEventKafkaListenerContainerFactory"
+  )
+  public void consumeUserEvent(UserEvent event) {
+    if (event == null || event.getUserId() == null || event.getType() == null) {
+      log.warn("Skipping malformed user event");
+      return;
+    }
+
+    switch (event.getType()) {
+      case CREATED -> userExistenceIndex.addCreated(event.getUserId());
+      case DELETED -> userExistenceIndex.remove(event.getUserId());
+    }
+    log.debug("Received user event: userId={}, type={}", event.getUserId(), event.getType());
+  }
+}
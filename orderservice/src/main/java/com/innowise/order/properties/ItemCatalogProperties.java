@@ -0,0 +1,20 @@
+package com.innowise.order.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the in-memory item catalog
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "catalog.items")
+public class ItemCatalogProperties {
+
+  /**
+   * How often the catalog snapshot is reloaded from the items table
+   */
+  private Duration refreshInterval = Duration.ofMinutes(1);
+}
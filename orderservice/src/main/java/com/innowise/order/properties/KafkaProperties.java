@@ -22,5 +22,6 @@ public class KafkaProperties {
     private String orderCreated;
     private String orderPaymentProcessed;
     private String paymentFailed;
+    private String userEvents;
   }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.innowise.order.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the order outbox and the relay publishing it to Kafka
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+  /**
+   * How long the relay waits between polls of the outbox table
+   */
+  private Duration pollInterval = Duration.ofMillis(200);
+
+  /**
+   * Maximum number of outbox rows published and deleted in one transaction
+   */
+  private int batchSize = 500;
+
+  /**
+   * How long the relay waits for Kafka to acknowledge a batch before retrying it
+   */
+  private Duration sendTimeout = Duration.ofSeconds(10);
+
+  /**
+   * How long the producer waits for more records before sending a batch to the broker
+   */
+  private Duration linger = Duration.ofMillis(20);
+
+  /**
+   * Maximum size of a producer batch in bytes
+   */
+  private int producerBatchSize = 64 * 1024;
+}
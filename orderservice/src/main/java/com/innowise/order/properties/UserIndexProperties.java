@@ -0,0 +1,20 @@
+package com.innowise.order.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the local user existence index
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "users.index")
+public class UserIndexProperties {
+
+  /**
+   * How long a user found by a user-service lookup is trusted without asking again
+   */
+  private Duration lookupTtl = Duration.ofMinutes(1);
+}
@@ -1,8 +1,12 @@
 package com.innowise.order.repository;
 
 import com.innowise.order.entity.Item;
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,4 +16,13 @@ import org.springframework.stereotype.Repository;
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
   List<Item> findByIdIn(List<Long> ids);
-}
\ No newline at end of file
+
+  /**
+   * Stream all Items ordered by id, rows are fetched from a cursor in chunks
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<Item> streamAllByOrderByIdAsc();
+}
@@ -0,0 +1,22 @@
+package com.innowise.order.repository;
+
+import com.innowise.order.entity.OrderOutbox;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for {@link OrderOutbox} entity operations
+ */
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutbox, Long> {
+
+  /**
+   * Get the oldest outbox rows and lock them, skipping rows locked by another relay
+   */
+  @Query(value = "SELECT * FROM order_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<OrderOutbox> lockBatch(@Param("limit") int limit);
+}
@@ -2,8 +2,13 @@ package com.innowise.order.repository;
 
 import com.innowise.order.entity.Order;
 import com.innowise.order.enums.OrderStatus;
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -22,6 +27,21 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
    */
   List<Order> findByStatusIn(List<OrderStatus> statuses);
 
+  /**
+   * Get a page of Orders of one status with ids greater than the given one, served by a range
+   * scan of the (status, id) index
+   */
+  List<Order> findByStatusAndIdGreaterThanOrderByIdAsc(OrderStatus status, Long id, Limit limit);
+
+  /**
+   * Stream Orders by statuses, rows are fetched from a cursor in chunks
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<Order> streamByStatusIn(List<OrderStatus> statuses);
+
   /**
    * Find all orders by user id
    */
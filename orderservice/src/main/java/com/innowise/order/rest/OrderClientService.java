@@ -3,10 +3,18 @@ package com.innowise.order.rest;
 import com.innowise.order.dto.UserDTO;
 import com.innowise.order.exception.UserNotFoundException;
 import com.innowise.order.exception.UserServiceUnavailableException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -37,4 +45,42 @@ public class OrderClientService {
       throw new UserServiceUnavailableException("User service unavailable", ex);
     }
   }
+
+  /**
+   * Get which of the given users exist. Ids are sent to user-service in batches, so the query
+   * string stays within the request line limit.
+   */
+  public Set<String> getExistingUserIds(Collection<String> userIds) {
+    List<String> ids = List.copyOf(userIds);
+    int batchSize = userServiceProperties.getBatchSize();
+    Set<String> existing = new HashSet<>();
+
+    for (int from = 0; from < ids.size(); from += batchSize) {
+      existing.addAll(getUserIdsByIds(ids.subList(from, Math.min(from + batchSize, ids.size()))));
+    }
+    return existing;
+  }
+
+  private List<String> getUserIdsByIds(List<String> ids) {
+    log.info("Start calling user-service with {} userIds", ids.size());
+
+    String fullUrl = userServiceProperties.getUrl() + userServiceProperties.getMethodGetUsersByIds()
+        + "?ids={ids}";
+    try {
+      ResponseEntity<List<UserDTO>> response = restTemplate.exchange(fullUrl, HttpMethod.GET,
+          null, new ParameterizedTypeReference<>() {
+          }, String.join(",", ids));
+
+      List<UserDTO> users = response.getBody();
+      return users == null ? List.of() : users.stream()
+          .map(UserDTO::id)
+          .filter(Objects::nonNull)
+          .toList();
+    } catch (HttpClientErrorException.NotFound ex) {
+      return List.of(); // user-service answers 404 when none of the users exist
+    } catch (Exception ex) {
+      log.error("Error calling user-service: {}", ex.getMessage());
+      throw new UserServiceUnavailableException("User service unavailable", ex);
+    }
+  }
 }
@@ -18,6 +18,11 @@ public class UserServiceProperties {
   @NotBlank
   private String methodGetUserById;
 
+  @NotBlank
+  private String methodGetUsersByIds = "/api/v1/users/batch";
+
+  private int batchSize = 100; // user ids per call to methodGetUsersByIds
+
   private int timeout = 5000; // default value if not specified in configuration
   private int maxRetries = 3;
 }
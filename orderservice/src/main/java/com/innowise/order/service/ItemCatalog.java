@@ -0,0 +1,100 @@
+package com.innowise.order.service;
+
+import com.innowise.order.entity.Item;
+import com.innowise.order.repository.ItemRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * In-memory snapshot of the item catalog. The snapshot keeps item ids in a sorted primitive array
+ * next to the items, so lookups need no boxing and millions of items stay compact. It is never
+ * modified: a refresh builds a new snapshot and swaps the reference. Items unknown to the snapshot
+ * are read from the database until the next refresh picks them up. Returned items are shared and
+ * must not be modified.
+ */
+@Slf4j
+@Service
+public class ItemCatalog {
+
+  private final ItemRepository itemRepository;
+  private volatile Snapshot snapshot = new Snapshot(new long[0], new Item[0]);
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  public ItemCatalog(ItemRepository itemRepository) {
+    this.itemRepository = itemRepository;
+  }
+
+  /**
+   * Get items by ids, duplicate ids and ids without an item are left out
+   */
+  public List<Item> getItemsByIds(List<Long> ids) {
+    Snapshot current = snapshot;
+    List<Item> items = new ArrayList<>(ids.size());
+    List<Long> missingIds = new ArrayList<>();
+
+    for (Long id : new LinkedHashSet<>(ids)) {
+      Item item = id != null ? current.get(id) : null;
+      if (item != null) {
+        items.add(item);
+      } else if (id != null) {
+        missingIds.add(id);
+      }
+    }
+
+    if (!missingIds.isEmpty()) {
+      log.debug("Items {} are not in the catalog snapshot, reading them from the database",
+          missingIds);
+      items.addAll(itemRepository.findByIdIn(missingIds));
+    }
+    return items;
+  }
+
+  /**
+   * Reload the snapshot from the items table. Runs once the application is ready, after the
+   * initial data is loaded, and then on a schedule.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "#{@itemCatalogProperties.refreshInterval.toMillis()}",
+      initialDelayString = "#{@itemCatalogProperties.refreshInterval.toMillis()}")
+  @Transactional(readOnly = true)
+  public void refresh() {
+    List<Item> loaded = new ArrayList<>();
+    try (Stream<Item> items = itemRepository.streamAllByOrderByIdAsc()) {
+      items.forEach(item -> {
+        entityManager.detach(item);
+        loaded.add(item);
+      });
+    }
+
+    long[] ids = new long[loaded.size()];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = loaded.get(i).getId();
+    }
+    snapshot = new Snapshot(ids, loaded.toArray(Item[]::new));
+    log.info("Item catalog refreshed, {} items", ids.length);
+  }
+
+  /**
+   * Immutable catalog state, ids are sorted and items[i] has id ids[i]
+   */
+  private record Snapshot(long[] ids, Item[] items) {
+
+    Item get(long id) {
+      int index = Arrays.binarySearch(ids, id);
+      return index >= 0 ? items[index] : null;
+    }
+  }
+}
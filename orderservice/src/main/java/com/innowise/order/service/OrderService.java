@@ -1,9 +1,12 @@
 package com.innowise.order.service;
 
+import com.innowise.order.dto.BulkOrderResult;
 import com.innowise.order.dto.CreateOrderRequest;
 import com.innowise.order.dto.OrderDTO;
+import com.innowise.order.dto.PageResponse;
 import com.innowise.order.enums.OrderStatus;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderService {
 
@@ -15,6 +18,15 @@ public interface OrderService {
    */
   OrderDTO createOrder(CreateOrderRequest request);
 
+  /**
+   * Create Orders in bulk, an invalid order fails on its own without affecting the others. Valid
+   * orders are saved in chunks, a failed write fails the orders of its chunk
+   *
+   * @param requests orders to be created
+   * @return result of every order, in request order
+   */
+  List<BulkOrderResult> createOrders(List<CreateOrderRequest> requests);
+
   /**
    * Find order by identifier
    *
@@ -48,6 +60,25 @@ public interface OrderService {
    */
   List<OrderDTO> getOrdersByStatuses(List<OrderStatus> statuses);
 
+  /**
+   * Find one page of orders by statuses, ordered by id
+   *
+   * @param statuses list of orders statuses
+   * @param after    cursor of the previous page, null for the first page
+   * @param limit    page size
+   * @return page of orders with the cursor of the next page
+   */
+  PageResponse<OrderDTO> getOrdersPageByStatuses(List<OrderStatus> statuses, String after,
+      int limit);
+
+  /**
+   * Stream orders by statuses without loading them all into memory
+   *
+   * @param statuses list of orders statuses
+   * @param consumer receives every order
+   */
+  void streamOrdersByStatuses(List<OrderStatus> statuses, Consumer<OrderDTO> consumer);
+
   /**
    * Update order
    *
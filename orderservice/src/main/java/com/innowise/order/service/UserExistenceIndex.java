@@ -0,0 +1,66 @@
+package com.innowise.order.service;
+
+import com.innowise.order.properties.UserIndexProperties;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Service;
+
+/**
+ * Local index of users known to exist, fed by user events and by successful user-service lookups.
+ * An id missing from the index is not proof that the user does not exist, callers fall back to
+ * user-service for it.
+ * <p>
+ * Users from CREATED events are kept until their DELETED event. Users found by a lookup expire
+ * after the lookup TTL, because a lookup racing a DELETED event may record a user that is already
+ * gone.
+ */
+@Service
+public class UserExistenceIndex {
+
+  private static final long PERMANENT = Long.MAX_VALUE;
+
+  private final Map<String, Long> users = new ConcurrentHashMap<>();
+  private final long lookupTtlNanos;
+
+  public UserExistenceIndex(UserIndexProperties userIndexProperties) {
+    this.lookupTtlNanos = userIndexProperties.getLookupTtl().toNanos();
+  }
+
+  /**
+   * @param userId user id
+   * @return true if the user is known to exist
+   */
+  public boolean contains(String userId) {
+    Long expiresAt = users.get(userId);
+    if (expiresAt == null) {
+      return false;
+    }
+    if (expiresAt != PERMANENT && System.nanoTime() - expiresAt >= 0) {
+      users.remove(userId, expiresAt);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Records a user found by a user-service lookup until the lookup TTL passes
+   */
+  public void add(String userId) {
+    long expiresAt = System.nanoTime() + lookupTtlNanos;
+    users.merge(userId, expiresAt, (current, next) -> current == PERMANENT ? current : next);
+  }
+
+  /**
+   * Records a user from a CREATED event until its DELETED event
+   */
+  public void addCreated(String userId) {
+    users.put(userId, PERMANENT);
+  }
+
+  /**
+   * Forgets a deleted user
+   */
+  public void remove(String userId) {
+    users.remove(userId);
+  }
+}
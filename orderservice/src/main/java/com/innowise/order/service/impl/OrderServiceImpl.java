@@ -1,8 +1,11 @@
 package com.innowise.order.service.impl;
 
+import com.innowise.order.dto.BulkOrderResult;
 import com.innowise.order.dto.CreateOrderRequest;
 import com.innowise.order.dto.OrderDTO;
 import com.innowise.order.dto.OrderItemRequest;
+import com.innowise.order.dto.PageResponse;
+import com.innowise.order.dto.kafka.OrderCreatedEvent;
 import com.innowise.order.entity.Item;
 import com.innowise.order.entity.Order;
 import com.innowise.order.enums.OrderStatus;
@@ -12,41 +15,63 @@ import com.innowise.order.exception.UserNotFoundException;
 import com.innowise.order.exception.UserServiceUnavailableException;
 import com.innowise.order.kafka.OrderEventService;
 import com.innowise.order.mapper.OrderMapper;
-import com.innowise.order.repository.ItemRepository;
 import com.innowise.order.repository.OrderRepository;
 import com.innowise.order.rest.OrderClientService;
+import com.innowise.order.service.ItemCatalog;
 import com.innowise.order.service.OrderService;
+import com.innowise.order.service.UserExistenceIndex;
+import com.innowise.order.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
 public class OrderServiceImpl implements OrderService {
 
   private static final String ORDER_NOT_FOUND = "Order not found with id: ";
+  private static final int MAX_BULK_ORDERS = 1000;
+  private static final int BULK_SAVE_CHUNK_SIZE = 50;
   private final OrderRepository orderRepository;
-  private final ItemRepository itemRepository;
+  private final ItemCatalog itemCatalog;
   private final OrderMapper orderMapper;
   private final OrderClientService userClientService;
+  private final UserExistenceIndex userExistenceIndex;
   private final OrderEventService orderEventService;
+  private final TransactionTemplate transactionTemplate;
 
-  public OrderServiceImpl(OrderRepository orderRepository, ItemRepository itemRepository,
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  public OrderServiceImpl(OrderRepository orderRepository, ItemCatalog itemCatalog,
       OrderMapper orderMapper, OrderClientService userClientService,
-      @Lazy OrderEventService orderEventService
+      UserExistenceIndex userExistenceIndex, @Lazy OrderEventService orderEventService,
+      TransactionTemplate transactionTemplate
   ) {
     this.orderRepository = orderRepository;
-    this.itemRepository = itemRepository;
+    this.itemCatalog = itemCatalog;
     this.orderMapper = orderMapper;
     this.userClientService = userClientService;
+    this.userExistenceIndex = userExistenceIndex;
     this.orderEventService = orderEventService;
+    this.transactionTemplate = transactionTemplate;
   }
 
   @Transactional
@@ -57,7 +82,8 @@ public class OrderServiceImpl implements OrderService {
     Map<Long, Integer> itemQuantities = extractItemQuantities(request.items());
 
     Order order = buildOrder(request.userId(), availableItems, itemQuantities);
-    Order savedOrder = orderRepository.save(order);
+    // flushed so the batched inserts run now and the creation date is set for the response
+    Order savedOrder = orderRepository.saveAndFlush(order);
 
     orderEventService.sendOrderCreatedEvent(
         savedOrder.getId(),
@@ -69,6 +95,76 @@ public class OrderServiceImpl implements OrderService {
     return orderMapper.toOrderDTO(savedOrder);
   }
 
+  /**
+   * Not transactional: users and items are validated before the write transactions start, so no
+   * database connection is held while user-service answers. Orders are written in chunks of one
+   * transaction each, a chunk that fails to save fails its own orders only.
+   */
+  @Override
+  public List<BulkOrderResult> createOrders(List<CreateOrderRequest> requests) {
+    if (requests.size() > MAX_BULK_ORDERS) {
+      throw new IllegalArgumentException(
+          "Bulk request exceeds the limit of " + MAX_BULK_ORDERS + " orders");
+    }
+
+    Map<String, RuntimeException> userErrors = validateUsersExist(requests.stream()
+        .filter(Objects::nonNull)
+        .map(CreateOrderRequest::userId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet()));
+    Map<Long, Item> availableItems = fetchItemsByIds(requests.stream()
+        .filter(request -> request != null && request.items() != null)
+        .flatMap(request -> extractItemIds(request.items()).stream())
+        .distinct()
+        .toList());
+
+    BulkOrderResult[] results = new BulkOrderResult[requests.size()];
+    List<PendingOrder> pendingOrders = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      try {
+        pendingOrders.add(prepareOrder(i, requests.get(i), userErrors, availableItems));
+      } catch (RuntimeException ex) {
+        results[i] = BulkOrderResult.failed(i,
+            ex.getMessage() != null ? ex.getMessage() : "Invalid order");
+      }
+    }
+    for (int from = 0; from < pendingOrders.size(); from += BULK_SAVE_CHUNK_SIZE) {
+      List<PendingOrder> chunk = pendingOrders.subList(from,
+          Math.min(from + BULK_SAVE_CHUNK_SIZE, pendingOrders.size()));
+      try {
+        transactionTemplate.executeWithoutResult(status -> saveOrders(chunk, results));
+      } catch (RuntimeException ex) {
+        log.error("Saving {} orders of a bulk request failed: {}", chunk.size(), ex.getMessage());
+        chunk.forEach(pendingOrder -> results[pendingOrder.index()] =
+            BulkOrderResult.failed(pendingOrder.index(), "Order could not be saved"));
+      }
+    }
+    return List.of(results);
+  }
+
+  /**
+   * Saves validated orders of a bulk request, records their results and writes their created
+   * events to the outbox
+   */
+  private void saveOrders(List<PendingOrder> pendingOrders, BulkOrderResult[] results) {
+    // one flush, so the order and order item inserts go out in JDBC batches
+    List<Order> savedOrders = orderRepository.saveAllAndFlush(pendingOrders.stream()
+        .map(PendingOrder::order)
+        .toList());
+
+    LocalDateTime createdAt = LocalDateTime.now();
+    List<OrderCreatedEvent> events = new ArrayList<>(savedOrders.size());
+    for (int i = 0; i < savedOrders.size(); i++) {
+      Order savedOrder = savedOrders.get(i);
+      PendingOrder pendingOrder = pendingOrders.get(i);
+      events.add(new OrderCreatedEvent(savedOrder.getId(), savedOrder.getUserId(),
+          pendingOrder.amount(), createdAt));
+      results[pendingOrder.index()] = BulkOrderResult.created(pendingOrder.index(),
+          orderMapper.toOrderDTO(savedOrder));
+    }
+    orderEventService.sendOrderCreatedEvents(events);
+  }
+
   @Transactional(readOnly = true)
   @Override
   public OrderDTO getOrderById(Long id) {
@@ -104,6 +200,42 @@ public class OrderServiceImpl implements OrderService {
         .toList();
   }
 
+  @Transactional(readOnly = true)
+  @Override
+  public PageResponse<OrderDTO> getOrdersPageByStatuses(List<OrderStatus> statuses, String after,
+      int limit) {
+    int pageSize = KeysetCursor.limit(limit);
+    Long afterId = KeysetCursor.decode(after);
+    // one bounded (status, id) index range per status merged by id: with status IN (...) the
+    // database would read every row after the cursor and sort it, so the first page cost most
+    List<Order> orders = statuses.stream()
+        .distinct()
+        .flatMap(status -> orderRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status,
+            afterId, Limit.of(pageSize + 1)).stream())
+        .sorted(Comparator.comparing(Order::getId))
+        .limit(pageSize + 1)
+        .toList();
+
+    boolean hasNext = orders.size() > pageSize;
+    List<Order> page = hasNext ? orders.subList(0, pageSize) : orders;
+    String next = hasNext ? KeysetCursor.encode(page.get(pageSize - 1).getId()) : null;
+
+    return new PageResponse<>(page.stream()
+        .map(orderMapper::toOrderDTO)
+        .toList(), next);
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public void streamOrdersByStatuses(List<OrderStatus> statuses, Consumer<OrderDTO> consumer) {
+    try (Stream<Order> orders = orderRepository.streamByStatusIn(statuses)) {
+      orders.forEach(order -> {
+        consumer.accept(orderMapper.toOrderDTO(order));
+        entityManager.detach(order);
+      });
+    }
+  }
+
   @Transactional
   @Override
   public OrderDTO updateOrder(Long id, OrderStatus newStatus) {
@@ -144,11 +276,16 @@ public class OrderServiceImpl implements OrderService {
   }
 
   /**
-   * Validates that the user exists by calling the user service
+   * Validates that the user exists, calling the user service only for users missing from the
+   * local user existence index
    */
   private void validateUserExists(String userId) {
+    if (userExistenceIndex.contains(userId)) {
+      return;
+    }
     try {
       userClientService.getUserById(userId);
+      userExistenceIndex.add(userId);
     } catch (UserNotFoundException ex) {
       throw new UserServiceUnavailableException("User not found with id: " + userId, ex);
     } catch (Exception ex) {
@@ -157,7 +294,63 @@ public class OrderServiceImpl implements OrderService {
   }
 
   /**
-   * Fetches items from repository and validates availability.
+   * Finds users of a bulk request that do not exist or could not be checked, calling the user
+   * service once for all users missing from the local user existence index
+   *
+   * @return error for every such user id
+   */
+  private Map<String, RuntimeException> validateUsersExist(Set<String> userIds) {
+    List<String> unknownIds = userIds.stream()
+        .filter(userId -> !userExistenceIndex.contains(userId))
+        .toList();
+    if (unknownIds.isEmpty()) {
+      return Map.of();
+    }
+
+    Set<String> existingIds;
+    try {
+      existingIds = userClientService.getExistingUserIds(unknownIds);
+    } catch (UserServiceUnavailableException ex) {
+      return unknownIds.stream()
+          .collect(Collectors.toMap(Function.identity(), userId -> ex));
+    }
+
+    existingIds.forEach(userExistenceIndex::add);
+    return unknownIds.stream()
+        .filter(userId -> !existingIds.contains(userId))
+        .collect(Collectors.toMap(Function.identity(),
+            userId -> new UserNotFoundException("User not found with id: " + userId)));
+  }
+
+  /**
+   * Validates one order of a bulk request against the users and items fetched for the whole
+   * request and builds it.
+   *
+   * @throws RuntimeException describing why the order is invalid
+   */
+  private PendingOrder prepareOrder(int index, CreateOrderRequest request,
+      Map<String, RuntimeException> userErrors, Map<Long, Item> availableItems) {
+    if (request == null || request.userId() == null || request.items() == null
+        || request.items().isEmpty()) {
+      throw new IllegalArgumentException("Order must have a user id and items");
+    }
+    RuntimeException userError = userErrors.get(request.userId());
+    if (userError != null) {
+      throw userError;
+    }
+
+    validateAllItemsAvailable(extractItemIds(request.items()), availableItems);
+    Map<Long, Integer> itemQuantities = extractItemQuantities(request.items());
+    Map<Long, Item> orderItems = itemQuantities.keySet().stream()
+        .collect(Collectors.toMap(Function.identity(), availableItems::get));
+
+    BigDecimal amount = getAmount(orderItems, itemQuantities);
+    return new PendingOrder(index, buildOrder(request.userId(), orderItems, itemQuantities),
+        amount);
+  }
+
+  /**
+   * Fetches items from the item catalog and validates availability.
    *
    * @param orderItems list of requested order items
    * @return map of available items by ID
@@ -184,7 +377,7 @@ public class OrderServiceImpl implements OrderService {
    * Fetches items by IDs and returns as map.
    */
   private Map<Long, Item> fetchItemsByIds(List<Long> itemIds) {
-    return itemRepository.findByIdIn(itemIds).stream()
+    return itemCatalog.getItemsByIds(itemIds).stream()
         .filter(item -> item.getId() != null)
         .collect(Collectors.toMap(Item::getId, Function.identity()));
   }
@@ -264,4 +457,11 @@ public class OrderServiceImpl implements OrderService {
     }
     return item;
   }
+
+  /**
+   * Valid order of a bulk request waiting to be saved, with its position in the request
+   */
+  private record PendingOrder(int index, Order order, BigDecimal amount) {
+
+  }
 }
@@ -0,0 +1,170 @@
+package com.innowise.order.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.innowise.order.entity.Item;
+import com.innowise.order.entity.Order;
+import com.innowise.order.enums.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Measures order insert throughput of the IDENTITY id baseline against pooled sequence ids with
+ * JDBC batching. The baseline maps the same entities with the ids overridden back to IDENTITY by
+ * {@code benchmark/identity-ids-orm.xml} in a schema of its own, so every row is inserted by a
+ * round trip of its own. Every order is persisted in its own transaction, as createOrder does.
+ * Run with {@code mvn test -Dtest=OrderInsertBenchmarkTest -Dbenchmark=true}.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.default_schema=public",
+    "spring.jpa.properties.hibernate.format_sql=false",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+    "spring.jpa.properties.hibernate.order_inserts=true",
+    "spring.liquibase.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Testcontainers
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderInsertBenchmarkTest {
+
+  private static final int WARMUP_ORDERS = 50;
+  private static final int MEASURED_ORDERS = 500;
+
+  @Container
+  static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private DataSource dataSource;
+
+  private EntityManagerFactory identityEntityManagerFactory;
+  private List<Item> items;
+  private List<Item> identityItems;
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url",
+        () -> postgres.getJdbcUrl() + "&reWriteBatchedInserts=true");
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+  }
+
+  @BeforeAll
+  void setUp() {
+    identityEntityManagerFactory = identityIdsEntityManagerFactory(dataSource);
+    items = createItems(entityManagerFactory);
+    identityItems = createItems(identityEntityManagerFactory);
+  }
+
+  @AfterAll
+  void tearDown() {
+    identityEntityManagerFactory.close();
+  }
+
+  @ParameterizedTest(name = "{0}-line orders")
+  @ValueSource(ints = {1, 10, 100})
+  @DisplayName("Inserts per second for orders with 1, 10 and 100 lines")
+  void insertsPerSecond(int lines) {
+    double identity = measure(identityEntityManagerFactory, identityItems, lines);
+    double batched = measure(entityManagerFactory, items, lines);
+
+    log.info("{}-line orders: identity ids {} rows/s, batched sequence ids {} rows/s (x{})",
+        lines, Math.round(identity), Math.round(batched),
+        String.format("%.1f", batched / identity));
+    assertTrue(identity > 0 && batched > 0);
+  }
+
+  /**
+   * @return inserted rows (orders and their lines) per second
+   */
+  private double measure(EntityManagerFactory factory, List<Item> orderedItems, int lines) {
+    insertOrders(factory, orderedItems, WARMUP_ORDERS, lines);
+
+    long start = System.nanoTime();
+    insertOrders(factory, orderedItems, MEASURED_ORDERS, lines);
+    double seconds = (System.nanoTime() - start) / 1e9;
+
+    return MEASURED_ORDERS * (1 + lines) / seconds;
+  }
+
+  private void insertOrders(EntityManagerFactory factory, List<Item> orderedItems, int orders,
+      int lines) {
+    for (int i = 0; i < orders; i++) {
+      inTransaction(factory, entityManager -> {
+        Order order = new Order("benchmark", OrderStatus.PENDING);
+        orderedItems.subList(0, lines).forEach(item -> order.addOrderItem(item, 1));
+        entityManager.persist(order);
+      });
+    }
+  }
+
+  private static List<Item> createItems(EntityManagerFactory factory) {
+    List<Item> created = IntStream.range(0, 100)
+        .mapToObj(i -> new Item("Item" + i, new BigDecimal("10.00")))
+        .toList();
+    inTransaction(factory, entityManager -> created.forEach(entityManager::persist));
+    return created;
+  }
+
+  private static void inTransaction(EntityManagerFactory factory, Consumer<EntityManager> work) {
+    EntityManager entityManager = factory.createEntityManager();
+    try {
+      entityManager.getTransaction().begin();
+      work.accept(entityManager);
+      entityManager.getTransaction().commit();
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  private static EntityManagerFactory identityIdsEntityManagerFactory(DataSource dataSource) {
+    LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+    factory.setDataSource(dataSource);
+    factory.setPackagesToScan(Order.class.getPackageName());
+    factory.setMappingResources("benchmark/identity-ids-orm.xml");
+    factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    factory.setJpaPropertyMap(Map.of(
+        "hibernate.hbm2ddl.auto", "create-drop",
+        "hibernate.hbm2ddl.create_namespaces", "true",
+        "hibernate.default_schema", "identity_baseline",
+        "hibernate.jdbc.batch_size", "50",
+        "hibernate.order_inserts", "true"));
+    factory.afterPropertiesSet();
+    return factory.getObject();
+  }
+}
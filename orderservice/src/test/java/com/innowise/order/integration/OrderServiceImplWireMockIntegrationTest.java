@@ -25,6 +25,7 @@ import com.innowise.order.kafka.OrderEventService;
 import com.innowise.order.repository.ItemRepository;
 import com.innowise.order.repository.OrderRepository;
 import com.innowise.order.service.OrderService;
+import com.innowise.order.service.UserExistenceIndex;
 import com.innowise.order.unit.TestKafkaConsumer;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -75,6 +76,9 @@ class OrderServiceImplWireMockIntegrationTest extends BaseTestcontainersTest {
   @Autowired
   private ObjectMapper objectMapper;
 
+  @Autowired
+  private UserExistenceIndex userExistenceIndex;
+
   private static WireMockServer wireMockServer;
 
   @Container
@@ -105,6 +109,7 @@ class OrderServiceImplWireMockIntegrationTest extends BaseTestcontainersTest {
     orderRepository.deleteAll();
     itemRepository.deleteAll();
     wireMockServer.resetAll();
+    List.of(USER_ID, "321").forEach(userExistenceIndex::remove);
   }
 
   @Test
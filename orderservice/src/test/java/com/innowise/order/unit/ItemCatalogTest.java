@@ -0,0 +1,73 @@
+package com.innowise.order.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.innowise.order.entity.Item;
+import com.innowise.order.repository.ItemRepository;
+import com.innowise.order.service.ItemCatalog;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Tests for class {@link ItemCatalog}
+ */
+@ExtendWith(MockitoExtension.class)
+class ItemCatalogTest {
+
+  @Mock
+  private ItemRepository itemRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @InjectMocks
+  private ItemCatalog itemCatalog;
+
+  private Item item1;
+  private Item item2;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(itemCatalog, "entityManager", entityManager);
+    item1 = new Item(1L, "Laptop", new BigDecimal("999.99"));
+    item2 = new Item(2L, "Mouse", new BigDecimal("29.99"));
+  }
+
+  @Test
+  @DisplayName("Get items by ids - when items are in snapshot - should not query database")
+  void getItemsByIds_WhenItemsInSnapshot_ShouldNotQueryDatabase() {
+    when(itemRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(item1, item2));
+    itemCatalog.refresh();
+
+    List<Item> result = itemCatalog.getItemsByIds(List.of(2L, 1L, 2L));
+
+    assertEquals(List.of(item2, item1), result);
+    verify(itemRepository, never()).findByIdIn(any());
+  }
+
+  @Test
+  @DisplayName("Get items by ids - when item is not in snapshot - should read it from database")
+  void getItemsByIds_WhenItemNotInSnapshot_ShouldReadFromDatabase() {
+    when(itemRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(item1));
+    when(itemRepository.findByIdIn(List.of(2L, 99L))).thenReturn(List.of(item2));
+    itemCatalog.refresh();
+
+    List<Item> result = itemCatalog.getItemsByIds(List.of(1L, 2L, 99L));
+
+    assertEquals(List.of(item1, item2), result);
+  }
+}
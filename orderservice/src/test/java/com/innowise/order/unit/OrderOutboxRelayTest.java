@@ -0,0 +1,82 @@
+package com.innowise.order.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.innowise.order.entity.OrderOutbox;
+import com.innowise.order.kafka.OrderOutboxRelay;
+import com.innowise.order.properties.OutboxProperties;
+import com.innowise.order.repository.OrderOutboxRepository;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests for class {@link OrderOutboxRelay}
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxRelayTest {
+
+  @Mock
+  private OrderOutboxRepository orderOutboxRepository;
+
+  @Mock
+  private KafkaTemplate<String, String> kafkaTemplate;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private OrderOutboxRelay orderOutboxRelay;
+  private OrderOutbox event1;
+  private OrderOutbox event2;
+
+  @BeforeEach
+  void setUp() {
+    orderOutboxRelay = new OrderOutboxRelay(orderOutboxRepository, kafkaTemplate,
+        transactionTemplate, new OutboxProperties());
+    event1 = new OrderOutbox("order-created", "1", "{\"orderId\":1}");
+    event1.setId(10L);
+    event2 = new OrderOutbox("order-created", "2", "{\"orderId\":2}");
+    event2.setId(11L);
+  }
+
+  @Test
+  @DisplayName("Publish batch - when Kafka acknowledges - should delete published rows")
+  void publishBatch_WhenAcknowledged_ShouldDeleteRows() {
+    when(orderOutboxRepository.lockBatch(500)).thenReturn(List.of(event1, event2));
+    when(kafkaTemplate.send("order-created", "1", "{\"orderId\":1}"))
+        .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+    when(kafkaTemplate.send("order-created", "2", "{\"orderId\":2}"))
+        .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+    int published = orderOutboxRelay.publishBatch();
+
+    assertEquals(2, published);
+    verify(kafkaTemplate).flush();
+    verify(orderOutboxRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+  }
+
+  @Test
+  @DisplayName("Publish batch - when Kafka send fails - should keep rows in outbox")
+  void publishBatch_WhenSendFails_ShouldKeepRows() {
+    when(orderOutboxRepository.lockBatch(500)).thenReturn(List.of(event1));
+    when(kafkaTemplate.send("order-created", "1", "{\"orderId\":1}"))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+    assertThrows(IllegalStateException.class, () -> orderOutboxRelay.publishBatch());
+
+    verify(orderOutboxRepository, never()).deleteAllByIdInBatch(any());
+  }
+}
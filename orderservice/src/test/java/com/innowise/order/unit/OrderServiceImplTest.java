@@ -3,9 +3,11 @@ package com.innowise.order.unit;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -14,9 +16,11 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.innowise.order.dto.BulkOrderResult;
 import com.innowise.order.dto.CreateOrderRequest;
 import com.innowise.order.dto.OrderDTO;
 import com.innowise.order.dto.OrderItemRequest;
+import com.innowise.order.dto.PageResponse;
 import com.innowise.order.dto.kafka.PaymentProcessedEvent;
 import com.innowise.order.entity.Item;
 import com.innowise.order.entity.Order;
@@ -28,17 +32,25 @@ import com.innowise.order.exception.UserNotFoundException;
 import com.innowise.order.exception.UserServiceUnavailableException;
 import com.innowise.order.kafka.OrderEventService;
 import com.innowise.order.mapper.OrderMapper;
-import com.innowise.order.repository.ItemRepository;
 import com.innowise.order.repository.OrderRepository;
 import com.innowise.order.rest.OrderClientService;
+import com.innowise.order.service.ItemCatalog;
+import com.innowise.order.service.UserExistenceIndex;
 import com.innowise.order.service.impl.OrderServiceImpl;
+import com.innowise.order.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,6 +58,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceImplTest {
@@ -57,7 +74,7 @@ class OrderServiceImplTest {
   private OrderRepository orderRepository;
 
   @Mock
-  private ItemRepository itemRepository;
+  private ItemCatalog itemCatalog;
 
   @Mock
   private OrderMapper orderMapper;
@@ -65,6 +82,15 @@ class OrderServiceImplTest {
   @Mock
   private OrderClientService userClientService;
 
+  @Mock
+  private UserExistenceIndex userExistenceIndex;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
   @InjectMocks
   private OrderServiceImpl orderService;
 
@@ -107,8 +133,8 @@ class OrderServiceImplTest {
     paymentProcessedEvent.setPaymentId("123456");
 
     doNothing().when(userClientService).getUserById(userId);
-    when(itemRepository.findByIdIn(List.of(1L, 2L))).thenReturn(List.of(item1, item2));
-    when(orderRepository.save(any(Order.class))).thenReturn(order);
+    when(itemCatalog.getItemsByIds(List.of(1L, 2L))).thenReturn(List.of(item1, item2));
+    when(orderRepository.saveAndFlush(any(Order.class))).thenReturn(order);
     when(orderMapper.toOrderDTO(order)).thenReturn(orderDTO);
     doNothing().when(orderEventService).sendOrderCreatedEvent(any(), any(), any(), any());
 
@@ -116,8 +142,8 @@ class OrderServiceImplTest {
 
     assertNotNull(result);
     verify(userClientService).getUserById(userId);
-    verify(itemRepository).findByIdIn(List.of(1L, 2L));
-    verify(orderRepository).save(any(Order.class));
+    verify(itemCatalog).getItemsByIds(List.of(1L, 2L));
+    verify(orderRepository).saveAndFlush(any(Order.class));
     verify(orderMapper).toOrderDTO(order);
   }
 
@@ -131,7 +157,7 @@ class OrderServiceImplTest {
 
     assertThrows(UserServiceUnavailableException.class, () -> orderService.createOrder(request));
     verify(userClientService).getUserById(userId);
-    verifyNoInteractions(itemRepository, orderRepository);
+    verifyNoInteractions(itemCatalog, orderRepository);
   }
 
   @Test
@@ -154,10 +180,88 @@ class OrderServiceImplTest {
     );
 
     doNothing().when(userClientService).getUserById(userId);
-    when(itemRepository.findByIdIn(List.of(99L))).thenReturn(List.of());
+    when(itemCatalog.getItemsByIds(List.of(99L))).thenReturn(List.of());
 
     assertThrows(ItemNotFoundException.class, () -> orderService.createOrder(request));
-    verify(itemRepository).findByIdIn(List.of(99L));
+    verify(itemCatalog).getItemsByIds(List.of(99L));
+  }
+
+  @Test
+  @DisplayName("Should create valid orders and report invalid ones when creating orders in bulk")
+  void createOrders_ShouldReportEveryOrder_WhenSomeOrdersInvalid() {
+    List<CreateOrderRequest> requests = List.of(
+        new CreateOrderRequest(userId, List.of(new OrderItemRequest(1L, 2))),
+        new CreateOrderRequest("missing-user", List.of(new OrderItemRequest(1L, 1))),
+        new CreateOrderRequest(userId, List.of(new OrderItemRequest(99L, 1)))
+    );
+
+    when(userClientService.getExistingUserIds(any())).thenReturn(Set.of(userId));
+    runInTransaction();
+    when(itemCatalog.getItemsByIds(List.of(1L, 99L))).thenReturn(List.of(item1));
+    when(orderRepository.saveAllAndFlush(any())).thenReturn(List.of(order));
+    when(orderMapper.toOrderDTO(order)).thenReturn(orderDTO);
+
+    List<BulkOrderResult> results = orderService.createOrders(requests);
+
+    assertEquals(3, results.size());
+    assertEquals(BulkOrderResult.created(0, orderDTO), results.get(0));
+    assertEquals(BulkOrderResult.failed(1, "User not found with id: missing-user"),
+        results.get(1));
+    assertEquals(2, results.get(2).index());
+    assertNotNull(results.get(2).error());
+    verify(userClientService, times(1)).getExistingUserIds(any());
+    verify(itemCatalog, times(1)).getItemsByIds(any());
+    verify(userExistenceIndex).add(userId);
+    verify(orderEventService).sendOrderCreatedEvents(any());
+  }
+
+  @Test
+  @DisplayName("Should fail only unknown users when user service fails during bulk creation")
+  void createOrders_ShouldFailUnknownUsersOnly_WhenUserServiceFails() {
+    List<CreateOrderRequest> requests = List.of(
+        new CreateOrderRequest(userId, List.of(new OrderItemRequest(1L, 1))),
+        new CreateOrderRequest("other-user", List.of(new OrderItemRequest(1L, 1)))
+    );
+
+    when(userExistenceIndex.contains(userId)).thenReturn(true);
+    when(userClientService.getExistingUserIds(List.of("other-user")))
+        .thenThrow(new UserServiceUnavailableException("User service unavailable", null));
+    when(itemCatalog.getItemsByIds(List.of(1L))).thenReturn(List.of(item1));
+    runInTransaction();
+    when(orderRepository.saveAllAndFlush(any())).thenReturn(List.of(order));
+    when(orderMapper.toOrderDTO(order)).thenReturn(orderDTO);
+
+    List<BulkOrderResult> results = orderService.createOrders(requests);
+
+    assertEquals(BulkOrderResult.created(0, orderDTO), results.get(0));
+    assertEquals(BulkOrderResult.failed(1, "User service unavailable"), results.get(1));
+    verify(userClientService, never()).getUserById(any());
+  }
+
+  @Test
+  @DisplayName("Should fail only the orders of a chunk that could not be saved")
+  void createOrders_ShouldFailChunkOrdersOnly_WhenChunkSaveFails() {
+    List<CreateOrderRequest> requests = IntStream.range(0, 51)
+        .mapToObj(i -> new CreateOrderRequest(userId, List.of(new OrderItemRequest(1L, 1))))
+        .toList();
+
+    when(userExistenceIndex.contains(userId)).thenReturn(true);
+    when(itemCatalog.getItemsByIds(List.of(1L))).thenReturn(List.of(item1));
+    doAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).doThrow(new CannotCreateTransactionException("Connection lost"))
+        .when(transactionTemplate).executeWithoutResult(any());
+    when(orderRepository.saveAllAndFlush(any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(orderMapper.toOrderDTO(any())).thenReturn(orderDTO);
+
+    List<BulkOrderResult> results = orderService.createOrders(requests);
+
+    assertEquals(51, results.size());
+    assertEquals(BulkOrderResult.created(49, orderDTO), results.get(49));
+    assertEquals(BulkOrderResult.failed(50, "Order could not be saved"), results.get(50));
+    verify(transactionTemplate, times(2)).executeWithoutResult(any());
   }
 
   @Test
@@ -201,6 +305,85 @@ class OrderServiceImplTest {
     verify(orderMapper, times(2)).toOrderDTO(any(Order.class));
   }
 
+  @Test
+  @DisplayName("Should return a page with a cursor after the last order when more orders exist")
+  void getOrdersPageByStatuses_ShouldReturnCursor_WhenMoreOrdersExist() {
+    List<OrderStatus> statuses = List.of(OrderStatus.PENDING);
+    Order second = new Order(userId, OrderStatus.PENDING);
+    second.setId(2L);
+    Order third = new Order(userId, OrderStatus.PENDING);
+    third.setId(3L);
+
+    when(orderRepository.findByStatusAndIdGreaterThanOrderByIdAsc(OrderStatus.PENDING, 0L,
+        Limit.of(3))).thenReturn(List.of(order, second, third));
+    when(orderMapper.toOrderDTO(any(Order.class))).thenReturn(orderDTO);
+
+    PageResponse<OrderDTO> page = orderService.getOrdersPageByStatuses(statuses, null, 2);
+
+    assertEquals(2, page.items().size());
+    assertEquals(KeysetCursor.encode(2L), page.next());
+  }
+
+  @Test
+  @DisplayName("Should continue after the cursor and return no cursor on the last page")
+  void getOrdersPageByStatuses_ShouldReturnLastPage_WhenCursorGiven() {
+    List<OrderStatus> statuses = List.of(OrderStatus.PENDING);
+
+    when(orderRepository.findByStatusAndIdGreaterThanOrderByIdAsc(OrderStatus.PENDING, 2L,
+        Limit.of(3))).thenReturn(List.of(order));
+    when(orderMapper.toOrderDTO(order)).thenReturn(orderDTO);
+
+    PageResponse<OrderDTO> page = orderService.getOrdersPageByStatuses(statuses,
+        KeysetCursor.encode(2L), 2);
+
+    assertEquals(1, page.items().size());
+    assertNull(page.next());
+  }
+
+  @Test
+  @DisplayName("Should merge the pages of every status by id when paging several statuses")
+  void getOrdersPageByStatuses_ShouldMergeStatusesById_WhenSeveralStatusesGiven() {
+    List<OrderStatus> statuses = List.of(OrderStatus.PENDING, OrderStatus.COMPLETED);
+    Order pending = new Order(userId, OrderStatus.PENDING);
+    pending.setId(2L);
+    Order completed = new Order(userId, OrderStatus.COMPLETED);
+    completed.setId(3L);
+    Order laterPending = new Order(userId, OrderStatus.PENDING);
+    laterPending.setId(5L);
+
+    when(orderRepository.findByStatusAndIdGreaterThanOrderByIdAsc(OrderStatus.PENDING, 1L,
+        Limit.of(3))).thenReturn(List.of(pending, laterPending));
+    when(orderRepository.findByStatusAndIdGreaterThanOrderByIdAsc(OrderStatus.COMPLETED, 1L,
+        Limit.of(3))).thenReturn(List.of(completed));
+    when(orderMapper.toOrderDTO(any(Order.class))).thenReturn(orderDTO);
+
+    PageResponse<OrderDTO> page = orderService.getOrdersPageByStatuses(statuses,
+        KeysetCursor.encode(1L), 2);
+
+    assertEquals(2, page.items().size());
+    assertEquals(KeysetCursor.encode(3L), page.next());
+    verify(orderMapper).toOrderDTO(pending);
+    verify(orderMapper).toOrderDTO(completed);
+    verify(orderMapper, never()).toOrderDTO(laterPending);
+  }
+
+  @Test
+  @DisplayName("Should pass every streamed order to the consumer and detach it")
+  void streamOrdersByStatuses_ShouldConsumeAndDetachOrders_WhenStatusesMatch() {
+    ReflectionTestUtils.setField(orderService, "entityManager", entityManager);
+    List<OrderStatus> statuses = List.of(OrderStatus.PENDING);
+    List<OrderDTO> consumed = new ArrayList<>();
+
+    when(orderRepository.streamByStatusIn(statuses)).thenReturn(Stream.of(order, order));
+    when(orderMapper.toOrderDTO(order)).thenReturn(orderDTO);
+
+    orderService.streamOrdersByStatuses(statuses, consumed::add);
+
+    assertEquals(2, consumed.size());
+    verify(entityManager, times(2)).detach(order);
+    verify(orderRepository, never()).findByStatusIn(any());
+  }
+
   @Test
   @DisplayName("Should return empty list when no orders found with given IDs")
   void getOrdersByIds_ShouldReturnEmptyList_WhenNoOrdersFound() {
@@ -297,7 +480,7 @@ class OrderServiceImplTest {
         new OrderItemRequest(2L, 1)
     );
 
-    when(itemRepository.findByIdIn(List.of(1L, 2L))).thenReturn(List.of(item1, item2));
+    when(itemCatalog.getItemsByIds(List.of(1L, 2L))).thenReturn(List.of(item1, item2));
 
     Method method = OrderServiceImpl.class.getDeclaredMethod("fetchAndValidateItems", List.class);
     method.setAccessible(true);
@@ -316,7 +499,7 @@ class OrderServiceImplTest {
   @DisplayName("Should throw ItemNotFoundException when items are missing from repository")
   void fetchAndValidateItems_ShouldThrowItemNotFoundException_WhenItemsMissing() throws Exception {
     List<OrderItemRequest> orderItems = List.of(new OrderItemRequest(99L, 1));
-    when(itemRepository.findByIdIn(List.of(99L))).thenReturn(List.of());
+    when(itemCatalog.getItemsByIds(List.of(99L))).thenReturn(List.of());
 
     Method method = OrderServiceImpl.class.getDeclaredMethod("fetchAndValidateItems", List.class);
     method.setAccessible(true);
@@ -374,6 +557,19 @@ class OrderServiceImplTest {
 
     assertDoesNotThrow(() -> method.invoke(orderService, userId));
     verify(userClientService).getUserById(userId);
+    verify(userExistenceIndex).add(userId);
+  }
+
+  @Test
+  @DisplayName("Should skip user service when user is in the existence index")
+  void validateUserExists_ShouldNotCallUserService_WhenUserIndexed() throws Exception {
+    when(userExistenceIndex.contains(userId)).thenReturn(true);
+
+    Method method = OrderServiceImpl.class.getDeclaredMethod("validateUserExists", String.class);
+    method.setAccessible(true);
+
+    assertDoesNotThrow(() -> method.invoke(orderService, userId));
+    verifyNoInteractions(userClientService);
   }
 
   @Test
@@ -421,4 +617,11 @@ class OrderServiceImplTest {
     assertNotNull(orderItem1.getItem());
     assertNotNull(orderItem2.getItem());
   }
-}
\ No newline at end of file
+
+  private void runInTransaction() {
+    doAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any());
+  }
+}
@@ -0,0 +1,66 @@
+package com.innowise.order.unit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.innowise.order.properties.UserIndexProperties;
+import com.innowise.order.service.UserExistenceIndex;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for class {@link UserExistenceIndex}
+ */
+class UserExistenceIndexTest {
+
+  private static final String USER_ID = "user-1";
+
+  @Test
+  @DisplayName("Contains - when user was found by a lookup - should expire after the TTL")
+  void contains_WhenLookupEntryExpired_ShouldReturnFalse() {
+    UserExistenceIndex index = index(Duration.ZERO);
+
+    index.add(USER_ID);
+
+    assertFalse(index.contains(USER_ID));
+  }
+
+  @Test
+  @DisplayName("Contains - when user was found by a lookup - should keep it within the TTL")
+  void contains_WhenLookupEntryFresh_ShouldReturnTrue() {
+    UserExistenceIndex index = index(Duration.ofMinutes(1));
+
+    index.add(USER_ID);
+
+    assertTrue(index.contains(USER_ID));
+  }
+
+  @Test
+  @DisplayName("Contains - when user was created by an event - should not expire")
+  void contains_WhenCreatedByEvent_ShouldNotExpire() {
+    UserExistenceIndex index = index(Duration.ZERO);
+
+    index.addCreated(USER_ID);
+    index.add(USER_ID);
+
+    assertTrue(index.contains(USER_ID));
+  }
+
+  @Test
+  @DisplayName("Contains - when user was deleted - should return false")
+  void contains_WhenRemoved_ShouldReturnFalse() {
+    UserExistenceIndex index = index(Duration.ofMinutes(1));
+
+    index.addCreated(USER_ID);
+    index.remove(USER_ID);
+
+    assertFalse(index.contains(USER_ID));
+  }
+
+  private UserExistenceIndex index(Duration lookupTtl) {
+    UserIndexProperties properties = new UserIndexProperties();
+    properties.setLookupTtl(lookupTtl);
+    return new UserExistenceIndex(properties);
+  }
+}
@@ -1,27 +1,39 @@
 package com.innowise.payment.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.innowise.payment.dto.PageResponse;
 import com.innowise.payment.dto.PaymentDTO;
 import com.innowise.payment.enums.PaymentStatus;
 import com.innowise.payment.service.PaymentService;
 import com.innowise.payment.service.impl.PaymentServiceImpl;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/payments")
 public class PaymentController {
 
   private final PaymentService paymentService;
+  private final ObjectMapper objectMapper;
 
-  public PaymentController(PaymentServiceImpl paymentService) {
+  public PaymentController(PaymentServiceImpl paymentService, ObjectMapper objectMapper) {
     this.paymentService = paymentService;
+    this.objectMapper = objectMapper;
   }
 
   @GetMapping("/order/{orderId}")
@@ -36,6 +48,20 @@ public class PaymentController {
     return ResponseEntity.ok(response);
   }
 
+  @GetMapping(value = "/user/{userId}", params = "limit")
+  public ResponseEntity<PageResponse<PaymentDTO>> getPaymentsPageByUserId(
+      @PathVariable String userId,
+      @RequestParam(required = false) String after,
+      @RequestParam int limit) {
+    return ResponseEntity.ok(paymentService.getPaymentsPageByUserId(userId, after, limit));
+  }
+
+  @GetMapping(value = "/user/{userId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamPaymentsByUserId(
+      @PathVariable String userId) {
+    return ndjson(consumer -> paymentService.streamPaymentsByUserId(userId, consumer));
+  }
+
   @GetMapping("/status")
   public ResponseEntity<List<PaymentDTO>> getPaymentsByStatuses(
       @RequestParam List<PaymentStatus> statuses) {
@@ -43,6 +69,20 @@ public class PaymentController {
     return ResponseEntity.ok(response);
   }
 
+  @GetMapping(value = "/status", params = "limit")
+  public ResponseEntity<PageResponse<PaymentDTO>> getPaymentsPageByStatuses(
+      @RequestParam List<PaymentStatus> statuses,
+      @RequestParam(required = false) String after,
+      @RequestParam int limit) {
+    return ResponseEntity.ok(paymentService.getPaymentsPageByStatuses(statuses, after, limit));
+  }
+
+  @GetMapping(value = "/status", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamPaymentsByStatuses(
+      @RequestParam List<PaymentStatus> statuses) {
+    return ndjson(consumer -> paymentService.streamPaymentsByStatuses(statuses, consumer));
+  }
+
   @GetMapping("/total")
   public ResponseEntity<BigDecimal> getTotalPaymentsForPeriod(
       @RequestParam LocalDateTime start,
@@ -51,4 +91,34 @@ public class PaymentController {
     BigDecimal total = paymentService.getTotalSumForPeriod(start, end);
     return ResponseEntity.ok(total);
   }
+
+  @ExceptionHandler(IllegalArgumentException.class)
+  public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException ex) {
+    return ResponseEntity.badRequest().body(ex.getMessage());
+  }
+
+  /**
+   * Writes payments as newline-delimited JSON while they are read, so memory use does not grow
+   * with the result size
+   */
+  private ResponseEntity<StreamingResponseBody> ndjson(
+      Consumer<Consumer<PaymentDTO>> producer) {
+    StreamingResponseBody body = outputStream -> {
+      try (SequenceWriter writer = objectMapper.writer()
+          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+          .withRootValueSeparator("\n")
+          .writeValues(outputStream)) {
+        producer.accept(payment -> {
+          try {
+            writer.write(payment);
+          } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+          }
+        });
+      }
+    };
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
 }
@@ -4,6 +4,8 @@ import com.innowise.payment.entity.Payment;
 import com.innowise.payment.enums.PaymentStatus;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
@@ -22,11 +24,32 @@ public interface PaymentRepository extends MongoRepository<Payment, String> {
    */
   List<Payment> findByUserId(String userId);
 
+  /**
+   * Finds a page of payments by user id with ids greater than the given one
+   */
+  List<Payment> findByUserIdAndIdGreaterThanOrderByIdAsc(String userId, String id, Limit limit);
+
+  /**
+   * Streams all payments by user id from a database cursor
+   */
+  Stream<Payment> streamByUserId(String userId);
+
   /**
    * Finds all payments made by statuses
    */
   List<Payment> findByStatusIn(List<PaymentStatus> statuses);
 
+  /**
+   * Finds a page of payments by statuses with ids greater than the given one
+   */
+  List<Payment> findByStatusInAndIdGreaterThanOrderByIdAsc(List<PaymentStatus> statuses,
+      String id, Limit limit);
+
+  /**
+   * Streams all payments made by statuses from a database cursor
+   */
+  Stream<Payment> streamByStatusIn(List<PaymentStatus> statuses);
+
   /**
    * Finds completed payments within a specified time period and returns only their payment amounts
    */
@@ -1,11 +1,13 @@
 package com.innowise.payment.service;
 
+import com.innowise.payment.dto.PageResponse;
 import com.innowise.payment.dto.PaymentDTO;
 import com.innowise.payment.entity.Payment;
 import com.innowise.payment.enums.PaymentStatus;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing payment operations
@@ -36,6 +38,25 @@ public interface PaymentService {
    */
   List<PaymentDTO> getPaymentsByUserId(String userId);
 
+  /**
+   * Finds one page of payments associated with the specified user ID, ordered by id
+   *
+   * @param userId user id
+   * @param after  cursor of the previous page, null for the first page
+   * @param limit  page size
+   * @return page of payments with the cursor of the next page
+   */
+  PageResponse<PaymentDTO> getPaymentsPageByUserId(String userId, String after, int limit);
+
+  /**
+   * Streams all payments associated with the specified user ID without loading them all into
+   * memory
+   *
+   * @param userId   user id
+   * @param consumer receives every payment
+   */
+  void streamPaymentsByUserId(String userId, Consumer<PaymentDTO> consumer);
+
   /**
    * Finds all payments with the specified statuses
    *
@@ -44,6 +65,25 @@ public interface PaymentService {
    */
   List<PaymentDTO> getPaymentsByStatuses(List<PaymentStatus> statuses);
 
+  /**
+   * Finds one page of payments with the specified statuses, ordered by id
+   *
+   * @param statuses payment statuses
+   * @param after    cursor of the previous page, null for the first page
+   * @param limit    page size
+   * @return page of payments with the cursor of the next page
+   */
+  PageResponse<PaymentDTO> getPaymentsPageByStatuses(List<PaymentStatus> statuses, String after,
+      int limit);
+
+  /**
+   * Streams all payments with the specified statuses without loading them all into memory
+   *
+   * @param statuses payment statuses
+   * @param consumer receives every payment
+   */
+  void streamPaymentsByStatuses(List<PaymentStatus> statuses, Consumer<PaymentDTO> consumer);
+
   /**
    * Calculates the total sum of all payments within the specified date period
    *
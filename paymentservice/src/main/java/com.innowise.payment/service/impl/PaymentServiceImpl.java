@@ -1,5 +1,6 @@
 package com.innowise.payment.service.impl;
 
+import com.innowise.payment.dto.PageResponse;
 import com.innowise.payment.dto.PaymentDTO;
 import com.innowise.payment.entity.Payment;
 import com.innowise.payment.enums.PaymentStatus;
@@ -7,10 +8,14 @@ import com.innowise.payment.exception.PaymentNotFoundException;
 import com.innowise.payment.mapper.PaymentMapper;
 import com.innowise.payment.repository.PaymentRepository;
 import com.innowise.payment.service.PaymentService;
+import com.innowise.payment.util.KeysetCursor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,6 +47,23 @@ public class PaymentServiceImpl implements PaymentService {
         .toList();
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public PageResponse<PaymentDTO> getPaymentsPageByUserId(String userId, String after,
+      int limit) {
+    int pageSize = KeysetCursor.limit(limit);
+    return toPage(paymentRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId,
+        KeysetCursor.decode(after), Limit.of(pageSize + 1)), pageSize);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void streamPaymentsByUserId(String userId, Consumer<PaymentDTO> consumer) {
+    try (Stream<Payment> payments = paymentRepository.streamByUserId(userId)) {
+      payments.map(paymentMapper::toPaymentDTO).forEach(consumer);
+    }
+  }
+
   @Override
   @Transactional(readOnly = true)
   public List<PaymentDTO> getPaymentsByOrderId(Long orderId) {
@@ -60,6 +82,24 @@ public class PaymentServiceImpl implements PaymentService {
         .toList();
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public PageResponse<PaymentDTO> getPaymentsPageByStatuses(List<PaymentStatus> statuses,
+      String after, int limit) {
+    int pageSize = KeysetCursor.limit(limit);
+    return toPage(paymentRepository.findByStatusInAndIdGreaterThanOrderByIdAsc(statuses,
+        KeysetCursor.decode(after), Limit.of(pageSize + 1)), pageSize);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void streamPaymentsByStatuses(List<PaymentStatus> statuses,
+      Consumer<PaymentDTO> consumer) {
+    try (Stream<Payment> payments = paymentRepository.streamByStatusIn(statuses)) {
+      payments.map(paymentMapper::toPaymentDTO).forEach(consumer);
+    }
+  }
+
   @Override
   @Transactional(readOnly = true)
   public BigDecimal getTotalSumForPeriod(LocalDateTime startDate, LocalDateTime endDate) {
@@ -89,4 +129,18 @@ public class PaymentServiceImpl implements PaymentService {
   public void deleteAll(){
     paymentRepository.deleteAll();
   }
+
+  /**
+   * Builds a page from {@code pageSize + 1} fetched payments, the extra one only tells that a
+   * next page exists
+   */
+  private PageResponse<PaymentDTO> toPage(List<Payment> payments, int pageSize) {
+    boolean hasNext = payments.size() > pageSize;
+    List<Payment> page = hasNext ? payments.subList(0, pageSize) : payments;
+    String next = hasNext ? KeysetCursor.encode(page.get(pageSize - 1).getId()) : null;
+
+    return new PageResponse<>(page.stream()
+        .map(paymentMapper::toPaymentDTO)
+        .toList(), next);
+  }
 }
@@ -0,0 +1,55 @@
+package com.innowise.payment.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.bson.types.ObjectId;
+
+/**
+ * Cursor codec of payment-service, keyed by the payment ObjectId. The cursor contract shared by
+ * all services is described in docs/keyset-pagination.md.
+ */
+public final class KeysetCursor {
+
+  /**
+   * Largest page size a client may request
+   */
+  public static final int MAX_LIMIT = 500;
+
+  private static final String FIRST_PAGE = new ObjectId(new byte[12]).toHexString();
+
+  private KeysetCursor() {
+  }
+
+  public static String encode(String id) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(id.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @param cursor cursor from a previous page, may be null for the first page
+   * @return id to continue after
+   */
+  public static String decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return FIRST_PAGE;
+    }
+    String id;
+    try {
+      id = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Invalid page cursor: " + cursor, ex);
+    }
+    if (!ObjectId.isValid(id)) {
+      throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+    }
+    return id;
+  }
+
+  /**
+   * @param limit requested page size
+   * @return page size within 1 and {@link #MAX_LIMIT}
+   */
+  public static int limit(int limit) {
+    return Math.max(1, Math.min(limit, MAX_LIMIT));
+  }
+}
@@ -3,14 +3,17 @@ package com.innowise.payment.unit;
 import static com.innowise.payment.enums.PaymentStatus.COMPLETED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.innowise.payment.dto.PageResponse;
 import com.innowise.payment.dto.PaymentDTO;
 import com.innowise.payment.entity.Payment;
 import com.innowise.payment.enums.PaymentStatus;
@@ -18,11 +21,14 @@ import com.innowise.payment.exception.PaymentNotFoundException;
 import com.innowise.payment.mapper.PaymentMapper;
 import com.innowise.payment.repository.PaymentRepository;
 import com.innowise.payment.service.impl.PaymentServiceImpl;
+import com.innowise.payment.util.KeysetCursor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,6 +36,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 /**
  * Tests for class {@link PaymentServiceImpl}
@@ -147,6 +154,55 @@ class PaymentServiceImplTest {
     verify(paymentMapper, times(2)).toPaymentDTO(any(Payment.class));
   }
 
+  @Test
+  @DisplayName("Stream payments by statuses - should pass every payment DTO to the consumer")
+  void streamPaymentsByStatuses_ShouldConsumePaymentDTOs() {
+    List<PaymentStatus> statuses = Arrays.asList(COMPLETED, PaymentStatus.PENDING);
+    List<PaymentDTO> consumed = new ArrayList<>();
+
+    when(paymentRepository.streamByStatusIn(statuses)).thenReturn(Stream.of(payment1, payment2));
+    when(paymentMapper.toPaymentDTO(payment1)).thenReturn(dto1);
+    when(paymentMapper.toPaymentDTO(payment2)).thenReturn(dto2);
+
+    paymentService.streamPaymentsByStatuses(statuses, consumed::add);
+
+    assertEquals(Arrays.asList(dto1, dto2), consumed);
+    verify(paymentRepository, never()).findByStatusIn(any());
+  }
+
+  @Test
+  @DisplayName("Get payments page by statuses - with more payments - should return next cursor")
+  void getPaymentsPageByStatuses_WithMorePayments_ShouldReturnNextCursor() {
+    List<PaymentStatus> statuses = List.of(COMPLETED);
+    String afterId = "65f000000000000000000001";
+    payment1.setId("65f000000000000000000002");
+    payment2.setId("65f000000000000000000003");
+
+    when(paymentRepository.findByStatusInAndIdGreaterThanOrderByIdAsc(eq(statuses), eq(afterId),
+        eq(Limit.of(2)))).thenReturn(Arrays.asList(payment1, payment2));
+    when(paymentMapper.toPaymentDTO(payment1)).thenReturn(dto1);
+
+    PageResponse<PaymentDTO> result = paymentService.getPaymentsPageByStatuses(statuses,
+        KeysetCursor.encode(afterId), 1);
+
+    assertEquals(List.of(dto1), result.items());
+    assertEquals(payment1.getId(), KeysetCursor.decode(result.next()));
+    verify(paymentMapper, never()).toPaymentDTO(payment2);
+  }
+
+  @Test
+  @DisplayName("Get payments page by user ID - on last page - should return no cursor")
+  void getPaymentsPageByUserId_OnLastPage_ShouldReturnNoCursor() {
+    when(paymentRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(USER_ID),
+        eq(KeysetCursor.decode(null)), eq(Limit.of(11)))).thenReturn(List.of(payment1));
+    when(paymentMapper.toPaymentDTO(payment1)).thenReturn(dto1);
+
+    PageResponse<PaymentDTO> result = paymentService.getPaymentsPageByUserId(USER_ID, null, 10);
+
+    assertEquals(List.of(dto1), result.items());
+    assertNull(result.next());
+  }
+
   @Test
   @DisplayName("Get total sum for period - with payments found - should return correct sum")
   void getTotalSumForPeriod_WithPayments_ShouldReturnCorrectSum() {
@@ -0,0 +1,55 @@
+package com.innowise.user.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * Configuration class for kafka
+ */
+@Configuration
+public class KafkaConfig {
+
+  private final KafkaProperties kafkaProperties;
+
+  public KafkaConfig(KafkaProperties kafkaProperties) {
+    this.kafkaProperties = kafkaProperties;
+  }
+
+  @Bean
+  public KafkaTemplate<String, Object> kafkaTemplate() {
+    return new KafkaTemplate<>(producerFactory());
+  }
+
+  /**
+   * Producer for user events. Sends happen after the user transaction commits on the request
+   * thread, so waiting for broker metadata is kept short when Kafka is unavailable.
+   */
+  @Bean
+  public ProducerFactory<String, Object> producerFactory() {
+    Map<String, Object> configProps = new HashMap<>();
+    configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, getBootstrapServers());
+    configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+    configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+    configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 1000);
+
+    configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+
+    return new DefaultKafkaProducerFactory<>(configProps);
+  }
+
+  private String getBootstrapServers() {
+    return kafkaProperties.getBootstrapServers() != null
+        ? kafkaProperties.getBootstrapServers()
+        : "kafka:9092";
+  }
+}
@@ -1,5 +1,6 @@
 package com.innowise.user.controller;
 
+import com.innowise.user.dto.PageResponse;
 import com.innowise.user.dto.card.CardDTO;
 import com.innowise.user.dto.card.CreateCardRequest;
 import com.innowise.user.dto.card.UpdateCardRequest;
@@ -62,6 +63,17 @@ public class CardController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Get one page of cards by userID
+   */
+  @GetMapping(value = "/user/{id}", params = "limit")
+  public ResponseEntity<PageResponse<CardDTO>> getCardsPageByUserId(@PathVariable String id,
+      @RequestParam(required = false) String after,
+      @RequestParam int limit) {
+    PageResponse<CardDTO> response = cardService.getCardsPageByUserId(id, after, limit);
+    return ResponseEntity.ok(response);
+  }
+
   /**
    * Get cards by list of IDs
    */
@@ -96,6 +96,15 @@ public class UserController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Internal get user with cards by ID
+   */
+  @GetMapping("/internal/{id}")
+  public ResponseEntity<UserWithCardDTO> getUserWithCards(@PathVariable String id) {
+    UserWithCardDTO response = userService.getUserWithCards(id);
+    return ResponseEntity.ok(response);
+  }
+
   /**
    * Internal delete user by ID
    */
@@ -105,6 +105,22 @@ public class UserGlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
   }
 
+  /**
+   * Handle invalid arguments such as malformed page cursors - 400 Bad Request
+   */
+  @ExceptionHandler(IllegalArgumentException.class)
+  public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex,
+      ServletWebRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+        HttpStatus.BAD_REQUEST.value(),
+        ex.getMessage(),
+        getRequestPath(request)
+    );
+
+    log.warn("Invalid argument: {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+  }
+
   /**
    * Handle general exceptions - 500 Internal Server Error
    */
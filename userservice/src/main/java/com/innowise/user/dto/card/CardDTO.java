@@ -9,6 +9,7 @@ import java.time.LocalDate;
  * DTO representing a payment card entity in the system
  */
 public record CardDTO(
+    Long id,
     @NotBlank String number,
     @NotBlank String holder,
 
@@ -17,4 +18,7 @@ public record CardDTO(
     LocalDate expirationDate
 ) {
 
+  public CardDTO(String number, String holder, LocalDate expirationDate) {
+    this(null, number, holder, expirationDate);
+  }
 }
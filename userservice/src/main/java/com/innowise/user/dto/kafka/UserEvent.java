@@ -0,0 +1,24 @@
+package com.innowise.user.dto.kafka;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * User Event published via Kafka when a user is created or deleted
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEvent {
+
+  private String userId;
+  private Type type;
+
+  public enum Type {
+    CREATED,
+    DELETED
+  }
+}
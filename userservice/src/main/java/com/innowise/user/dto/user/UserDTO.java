@@ -9,10 +9,14 @@ import java.time.LocalDate;
  * DTO representing a user entity in the system
  */
 public record UserDTO(
+    String id,
     @NotBlank String name,
     @NotBlank String surname,
     @NotNull LocalDate birthDate,
     @Email String email
 ) {
 
+  public UserDTO(String name, String surname, LocalDate birthDate, String email) {
+    this(null, name, surname, birthDate, email);
+  }
 }
\ No newline at end of file
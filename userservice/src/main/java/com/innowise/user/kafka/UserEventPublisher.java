@@ -0,0 +1,43 @@
+package com.innowise.user.kafka;
+
+import com.innowise.user.config.KafkaProperties;
+import com.innowise.user.dto.kafka.UserEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Publishes user events to Kafka once the transaction that created or deleted the user commits.
+ * Events are keyed by user id, so the compacted topic keeps the latest event of every user.
+ */
+@Slf4j
+@Component
+public class UserEventPublisher {
+
+  private final KafkaTemplate<String, Object> kafkaTemplate;
+  private final KafkaProperties kafkaProperties;
+
+  public UserEventPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+      KafkaProperties kafkaProperties) {
+    this.kafkaTemplate = kafkaTemplate;
+    this.kafkaProperties = kafkaProperties;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void publish(UserEvent event) {
+    try {
+      kafkaTemplate.send(kafkaProperties.getTopics().getUserEvents(), event.getUserId(), event)
+          .whenComplete((result, ex) -> {
+            if (ex != null) {
+              log.error("Failed to send user event: userId={}, type={}", event.getUserId(),
+                  event.getType(), ex);
+            }
+          });
+    } catch (Exception e) {
+      log.error("Failed to send user event: userId={}, type={}", event.getUserId(),
+          event.getType(), e);
+    }
+  }
+}
@@ -5,12 +5,14 @@ import com.innowise.user.dto.user.UserDTO;
 import com.innowise.user.entity.User;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring", injectionStrategy = InjectionStrategy.CONSTRUCTOR)
 public interface UserMapper {
 
   UserCreateResponse toUserCreateResponse(User user);
 
+  @Mapping(target = "id", source = "uuid")
   UserDTO toUserDTO(User user);
 
   User toUser(UserCreateResponse userCreateResponse);
@@ -2,6 +2,7 @@ package com.innowise.user.repository;
 
 import com.innowise.user.entity.Card;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
@@ -18,4 +19,9 @@ public interface CardRepository extends JpaRepository<Card, Long> {
    * Find all user cards by user id
    */
   List<Card> findAllByUserUuid(String uuid);
+
+  /**
+   * Find a page of user cards with ids greater than the given one
+   */
+  List<Card> findByUserUuidAndIdGreaterThanOrderByIdAsc(String uuid, Long id, Limit limit);
 }
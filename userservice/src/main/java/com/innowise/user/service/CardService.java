@@ -3,6 +3,7 @@ package com.innowise.user.service;
 
 import com.innowise.user.dto.card.CardDTO;
 import com.innowise.user.dto.card.CreateCardRequest;
+import com.innowise.user.dto.PageResponse;
 import com.innowise.user.dto.card.UpdateCardRequest;
 import java.util.List;
 
@@ -36,6 +37,16 @@ public interface CardService {
    */
   List<CardDTO> getCardByUserId(String id);
 
+  /**
+   * Find one page of cards by user identifier, ordered by id
+   *
+   * @param id    user identifier
+   * @param after cursor of the previous page, null for the first page
+   * @param limit page size
+   * @return page of Cards with the cursor of the next page
+   */
+  PageResponse<CardDTO> getCardsPageByUserId(String id, String after, int limit);
+
   /**
    * Find list of card by ids
    *
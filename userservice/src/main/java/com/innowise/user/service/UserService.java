@@ -63,6 +63,14 @@ public interface UserService {
    */
   UserDTO updateUser(String id, UpdateUserRequest request);
 
+  /**
+   * Find user with cards by identifier, the data a deletion of the user removes
+   *
+   * @param id user identifier
+   * @return user with cards
+   */
+  UserWithCardDTO getUserWithCards(String id);
+
   /**
    * Delete user by identifier (cascade delete cards)
    *
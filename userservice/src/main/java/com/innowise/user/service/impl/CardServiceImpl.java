@@ -1,5 +1,6 @@
 package com.innowise.user.service.impl;
 
+import com.innowise.user.dto.PageResponse;
 import com.innowise.user.dto.card.CardDTO;
 import com.innowise.user.dto.card.CreateCardRequest;
 import com.innowise.user.dto.card.UpdateCardRequest;
@@ -10,10 +11,12 @@ import com.innowise.user.mapper.CardMapper;
 import com.innowise.user.repository.CardRepository;
 import com.innowise.user.service.CardService;
 import com.innowise.user.service.UserService;
+import com.innowise.user.util.KeysetCursor;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -62,6 +65,22 @@ public class CardServiceImpl implements CardService {
         .toList();
   }
 
+  @Transactional(readOnly = true)
+  @Override
+  public PageResponse<CardDTO> getCardsPageByUserId(String id, String after, int limit) {
+    int pageSize = KeysetCursor.limit(limit);
+    List<Card> cards = cardInfoRepository.findByUserUuidAndIdGreaterThanOrderByIdAsc(id,
+        KeysetCursor.decode(after), Limit.of(pageSize + 1));
+
+    boolean hasNext = cards.size() > pageSize;
+    List<Card> page = hasNext ? cards.subList(0, pageSize) : cards;
+    String next = hasNext ? KeysetCursor.encode(page.get(pageSize - 1).getId()) : null;
+
+    return new PageResponse<>(page.stream()
+        .map(cardMapper::toCardDTO)
+        .toList(), next);
+  }
+
   @Transactional(readOnly = true)
   @Override
   public List<CardDTO> getCardsByIds(List<Long> ids) {
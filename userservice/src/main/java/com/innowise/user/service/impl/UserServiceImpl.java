@@ -1,6 +1,7 @@
 package com.innowise.user.service.impl;
 
 import com.innowise.user.dto.card.CardDTO;
+import com.innowise.user.dto.kafka.UserEvent;
 import com.innowise.user.dto.user.CreateUserRequest;
 import com.innowise.user.dto.user.UpdateUserRequest;
 import com.innowise.user.dto.user.UserCreateResponse;
@@ -21,6 +22,7 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +38,7 @@ public class UserServiceImpl implements UserService {
   private final CardRepository cardRepository;
   private final UserMapper userMapper;
   private final CardMapper cardMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   @Override
@@ -52,6 +55,7 @@ public class UserServiceImpl implements UserService {
     user.setBirthDate(request.birthDate());
     user.setEmail(request.email());
     User savedUser = userRepository.save(user);
+    eventPublisher.publishEvent(new UserEvent(savedUser.getUuid(), UserEvent.Type.CREATED));
 
     return userMapper.toUserCreateResponse(savedUser);
   }
@@ -125,12 +129,26 @@ public class UserServiceImpl implements UserService {
   public UserWithCardDTO deleteUser(String id) {
     User user = userRepository.findById(id)
         .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND + id));
-
-    List<Card> cardList = cardRepository.findAllByUserUuid(id);
-    List<CardDTO> cardDTOList = cardList.stream().map(cardMapper::toCardDTO).toList();
+    UserWithCardDTO userWithCards = toUserWithCards(id, user);
 
     evictEmailCache(user.getEmail());
     userRepository.delete(user);
+    eventPublisher.publishEvent(new UserEvent(id, UserEvent.Type.DELETED));
+
+    return userWithCards;
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public UserWithCardDTO getUserWithCards(String id) {
+    return userRepository.findById(id)
+        .map(user -> toUserWithCards(id, user))
+        .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND + id));
+  }
+
+  private UserWithCardDTO toUserWithCards(String id, User user) {
+    List<Card> cardList = cardRepository.findAllByUserUuid(id);
+    List<CardDTO> cardDTOList = cardList.stream().map(cardMapper::toCardDTO).toList();
 
     return new UserWithCardDTO(user.getName(), user.getSurname(), user.getBirthDate(),
         user.getEmail(), cardDTOList);
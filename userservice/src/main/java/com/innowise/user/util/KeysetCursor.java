@@ -0,0 +1,48 @@
+package com.innowise.user.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor codec of user-service, keyed by the card id. The cursor contract shared by all
+ * services is described in docs/keyset-pagination.md.
+ */
+public final class KeysetCursor {
+
+  /**
+   * Largest page size a client may request
+   */
+  public static final int MAX_LIMIT = 500;
+
+  private KeysetCursor() {
+  }
+
+  public static String encode(Long id) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @param cursor cursor from a previous page, may be null for the first page
+   * @return id to continue after
+   */
+  public static Long decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return 0L;
+    }
+    try {
+      return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor),
+          StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Invalid page cursor: " + cursor, ex);
+    }
+  }
+
+  /**
+   * @param limit requested page size
+   * @return page size within 1 and {@link #MAX_LIMIT}
+   */
+  public static int limit(int limit) {
+    return Math.max(1, Math.min(limit, MAX_LIMIT));
+  }
+}
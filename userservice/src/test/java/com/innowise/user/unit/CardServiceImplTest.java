@@ -6,6 +6,7 @@ import static com.innowise.user.util.TestDataFactory.getCreateCardRequest;
 import static com.innowise.user.util.TestDataFactory.getUser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
@@ -14,6 +15,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.innowise.user.dto.PageResponse;
 import com.innowise.user.dto.card.CardDTO;
 import com.innowise.user.dto.card.CreateCardRequest;
 import com.innowise.user.dto.card.UpdateCardRequest;
@@ -25,6 +27,7 @@ import com.innowise.user.mapper.CardMapper;
 import com.innowise.user.repository.CardRepository;
 import com.innowise.user.service.UserService;
 import com.innowise.user.service.impl.CardServiceImpl;
+import com.innowise.user.util.KeysetCursor;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -35,6 +38,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 @ExtendWith(MockitoExtension.class)
 class CardServiceImplTest {
@@ -129,6 +133,39 @@ class CardServiceImplTest {
     verify(cardMapper, never()).toCardDTO(any(Card.class));
   }
 
+  @Test
+  void getCardsPageByUserId_WithMoreCards_ShouldReturnNextCursor() {
+    Card card1 = getCard(5L, CARD_NUMBER, CARD_HOLDER, EXPIRATION_DATE);
+    Card card2 = getCard(6L, CARD_NUMBER, CARD_HOLDER, EXPIRATION_DATE);
+    CardDTO cardDTO = getCardDTO(CARD_NUMBER, CARD_HOLDER, EXPIRATION_DATE);
+
+    when(cardInfoRepository.findByUserUuidAndIdGreaterThanOrderByIdAsc("1", 4L, Limit.of(2)))
+        .thenReturn(Arrays.asList(card1, card2));
+    when(cardMapper.toCardDTO(card1)).thenReturn(cardDTO);
+
+    PageResponse<CardDTO> result = cardService.getCardsPageByUserId("1",
+        KeysetCursor.encode(4L), 1);
+
+    assertEquals(List.of(cardDTO), result.items());
+    assertEquals(5L, KeysetCursor.decode(result.next()));
+    verify(cardMapper, never()).toCardDTO(card2);
+  }
+
+  @Test
+  void getCardsPageByUserId_OnLastPage_ShouldReturnNoCursor() {
+    Card card = getCard(CARD_ID, CARD_NUMBER, CARD_HOLDER, EXPIRATION_DATE);
+    CardDTO cardDTO = getCardDTO(CARD_NUMBER, CARD_HOLDER, EXPIRATION_DATE);
+
+    when(cardInfoRepository.findByUserUuidAndIdGreaterThanOrderByIdAsc("1", 0L, Limit.of(11)))
+        .thenReturn(List.of(card));
+    when(cardMapper.toCardDTO(card)).thenReturn(cardDTO);
+
+    PageResponse<CardDTO> result = cardService.getCardsPageByUserId("1", null, 10);
+
+    assertEquals(List.of(cardDTO), result.items());
+    assertNull(result.next());
+  }
+
   @Test
   void getCardsByIds_WithExistingIds_ShouldReturnCardDTOList() {
     List<Long> cardIds = Arrays.asList(1L, 2L, 3L);
@@ -4,16 +4,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.innowise.user.dto.kafka.UserEvent;
 import com.innowise.user.dto.user.CreateUserRequest;
 import com.innowise.user.dto.user.UpdateUserRequest;
 import com.innowise.user.dto.user.UserCreateResponse;
 import com.innowise.user.dto.user.UserDTO;
+import com.innowise.user.dto.user.UserWithCardDTO;
 import com.innowise.user.entity.Card;
 import com.innowise.user.entity.User;
 import com.innowise.user.exception.EmailAlreadyExistsException;
@@ -34,6 +37,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceImplTest {
@@ -52,6 +56,8 @@ class UserServiceImplTest {
   private UserMapper userMapper;
   @Mock
   private CardMapper cardMapper;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
   @InjectMocks
   private UserServiceImpl userService;
 
@@ -74,6 +80,8 @@ class UserServiceImplTest {
     verify(userRepository).findByEmail(EMAIL);
     verify(userRepository).save(any(User.class));
     verify(userMapper).toUserCreateResponse(savedUser);
+    verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof UserEvent e
+        && USER_ID.toString().equals(e.getUserId()) && e.getType() == UserEvent.Type.CREATED));
   }
 
   @Test
@@ -233,6 +241,26 @@ class UserServiceImplTest {
     verify(userRepository, never()).save(any());
   }
 
+  @Test
+  void getUserWithCards_ShouldReturnUserWithCards() {
+    User user = TestDataFactory.getUser(USER_ID, NAME, SURNAME, BIRTH_DATE, EMAIL);
+    when(userRepository.findById("1")).thenReturn(Optional.of(user));
+    when(cardRepository.findAllByUserUuid("1")).thenReturn(new ArrayList<>());
+
+    UserWithCardDTO result = userService.getUserWithCards("1");
+
+    assertEquals(EMAIL, result.email());
+    assertEquals(NAME, result.name());
+    verify(userRepository, never()).delete(any());
+  }
+
+  @Test
+  void getUserWithCards_ShouldThrowUserNotFoundException() {
+    when(userRepository.findById("1")).thenReturn(Optional.empty());
+
+    assertThrows(UserNotFoundException.class, () -> userService.getUserWithCards("1"));
+  }
+
   @Test
   void deleteUser_ShouldDeleteUserSuccessfully() {
     User user = TestDataFactory.getUser(USER_ID, NAME, SURNAME, BIRTH_DATE, EMAIL);
@@ -245,6 +273,8 @@ class UserServiceImplTest {
 
     verify(userRepository).findById("1");
     verify(userRepository).delete(user);
+    verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof UserEvent e
+        && "1".equals(e.getUserId()) && e.getType() == UserEvent.Type.DELETED));
   }
 
   @Test